@@ -0,0 +1,59 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 포맷 기존 구현(String.format)과 DistanceFormatter 비교
+ * - 실행: ./gradlew jmh
+ * - 처리량(ops/us)과 gc 프로파일러의 gc.alloc.rate.norm(B/op)을 비교한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DistanceFormatBenchmark {
+    private static final int SIZE = 1024;
+
+    private String[] distances;
+    private long[] meters;
+
+    @Setup
+    public void setUp() {
+        // 카카오맵 검색 결과처럼 m, 4~5자리 km, 6자리 km 가 섞인 입력
+        Random random = new Random(42);
+        distances = new String[SIZE];
+        meters = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int bound = i % 4 == 0 ? 1_000 : i % 4 == 3 ? 300_000 : 20_000;
+            meters[i] = random.nextInt(bound);
+            distances[i] = String.valueOf(meters[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void legacy(Blackhole blackhole) {
+        for (String distance : distances) {
+            blackhole.consume(DistanceFormatter.formatLegacy(distance));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void formatter(Blackhole blackhole) {
+        for (String distance : distances) {
+            blackhole.consume(DistanceFormatter.format(distance));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void formatterMeters(Blackhole blackhole) {
+        for (long distance : meters) {
+            blackhole.consume(DistanceFormatter.format(distance));
+        }
+    }
+}
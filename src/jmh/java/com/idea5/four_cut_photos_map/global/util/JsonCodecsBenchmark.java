@@ -0,0 +1,77 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
+import com.idea5.four_cut_photos_map.global.util.DocumentManagement.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오맵 API 응답(JSON) 변환 비교
+ * - jackson: JsonNode 트리 -> Map -> DTO (Util.jackson)
+ * - jackson2Legacy: 호출마다 공유 ObjectMapper 설정을 바꾸고 readValue (기존 Util.jackson2)
+ * - jackson2: 미리 만든 ObjectReader 로 readValue (현재 Util.jackson2)
+ * - 실행: ./gradlew jmh, 여러 스레드에서 호출하는 경우를 보려면 -t 옵션(jmh.threads) 사용
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JsonCodecsBenchmark {
+    private static final String BRAND = "인생네컷";
+    private static final ObjectMapper legacyMapper = new ObjectMapper();
+
+    private String body;
+
+    @Setup
+    public void setUp() {
+        // 한 페이지(15개) 분량의 응답, DocumentManagement 에 없는 필드 포함
+        StringBuilder sb = new StringBuilder("{\"documents\":[");
+        for (int i = 0; i < 15; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"").append(10_000 + i).append("\",")
+                    .append("\"place_name\":\"인생네컷 ").append(i).append("호점\",")
+                    .append("\"category_name\":\"가정,생활 > 사진 > 사진관,포토스튜디오\",")
+                    .append("\"address_name\":\"서울 성동구 성수동1가 ").append(i).append("\",")
+                    .append("\"road_address_name\":\"서울 성동구 왕십리로 ").append(i).append("\",")
+                    .append("\"x\":\"127.04").append(i).append("\",\"y\":\"37.54").append(i).append("\",")
+                    .append("\"distance\":\"").append(150 * i * i).append("\",")
+                    .append("\"phone\":\"").append(i % 3 == 0 ? "" : "02-000-000" + i).append("\",")
+                    .append("\"place_url\":\"http://place.map.kakao.com/").append(10_000 + i).append("\"}");
+        }
+        sb.append("],\"meta\":{\"is_end\":false,\"pageable_count\":45,\"total_count\":120,")
+                .append("\"same_name\":{\"keyword\":\"인생네컷\",\"region\":[],\"selected_region\":\"\"}}}");
+        body = sb.toString();
+    }
+
+    @Benchmark
+    public List<KakaoResponseDto> jackson() {
+        return Util.jackson(body, BRAND);
+    }
+
+    @Benchmark
+    public List<KakaoResponseDto> jackson2Legacy() throws Exception {
+        legacyMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        List<KakaoResponseDto> list = new ArrayList<>();
+        DocumentManagement documentManagement = legacyMapper.readValue(body, DocumentManagement.class);
+        for (Document document : documentManagement.getDocuments()) {
+            if (document.getPhone().equals("")) document.setPhone("미등록");
+            document.setDistance(Util.distanceFormatting(document.getDistance()));
+            list.add(KakaoResponseDto.from(document, BRAND));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<KakaoResponseDto> jackson2() {
+        return Util.jackson2(body, BRAND);
+    }
+
+    @Benchmark
+    public DocumentManagement readValueOnly() throws Exception {
+        return JsonCodecs.DOCUMENT_MANAGEMENT_READER.readValue(body);
+    }
+}
@@ -0,0 +1,63 @@
+package com.idea5.four_cut_photos_map.security.jwt;
+
+import com.idea5.four_cut_photos_map.security.jwt.dto.JwtClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.ACCESS_TOKEN;
+
+/**
+ * JwtAuthorizationFilter 의 토큰 검증 구간 비교
+ * - legacy: verify, getId, getTokenType 마다 파서를 새로 만들고 서명 검증 (HS512 검증 3번, 기존 필터)
+ * - singleParse: 공유 파서로 1번 파싱, 검증 후 JwtClaims 재사용 (검증된 토큰 캐시 사용 안 함)
+ * - cachedParse: 검증된 토큰 캐시 적중 (같은 토큰으로 반복 요청, 현재 필터)
+ * - 실행: ./gradlew jmh, 여러 스레드에서 호출하는 경우를 보려면 -t 옵션(jmh.threads) 사용
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JwtParseBenchmark {
+    private SecretKey secretKey;
+    private JwtProvider jwtProvider;
+    private JwtProvider cachedJwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor("four-cut-photos-map-benchmark-secret-key-for-hs512-signature-0123456789".getBytes(StandardCharsets.UTF_8));
+        jwtProvider = new JwtProvider(secretKey, new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        cachedJwtProvider = new JwtProvider(secretKey, new VerifiedTokenCache(10_000, new SimpleMeterRegistry()));
+        token = jwtProvider.generateToken(1L, List.of(new SimpleGrantedAuthority("ROLE_USER")), ACCESS_TOKEN.getName(), 1800L);
+    }
+
+    @Benchmark
+    public Object legacy() {
+        Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+        Claims idClaims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        Long id = ((Number) idClaims.get("id")).longValue();
+        Claims typeClaims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        String tokenType = typeClaims.get("token_type").toString();
+        return tokenType.equals(ACCESS_TOKEN.getName()) ? id : null;
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        JwtClaims claims = jwtProvider.parse(token);
+        return claims.isAccessToken() ? claims.getId() : null;
+    }
+
+    @Benchmark
+    public Object cachedParse() {
+        JwtClaims claims = cachedJwtProvider.parse(token);
+        return claims.isAccessToken() ? claims.getId() : null;
+    }
+}
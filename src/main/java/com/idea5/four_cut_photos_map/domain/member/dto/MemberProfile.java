@@ -0,0 +1,36 @@
+package com.idea5.four_cut_photos_map.domain.member.dto;
+
+import com.idea5.four_cut_photos_map.domain.member.entity.Member;
+import com.idea5.four_cut_photos_map.domain.memberTitle.entity.MemberTitleLog;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 회원 프로필 스냅샷 (불변)
+ * - 인증 객체, 회원 정보 조회, 리뷰 작성자 정보에서 함께 쓰는 값만 보관 (MemberProfileCache)
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberProfile {
+    private final Long id;
+    private final String nickname;
+    private final String mainMemberTitle; // 대표 회원칭호, 없으면 null
+    private final int memberTitleCnt; // 회원칭호 개수
+
+    public static MemberProfile of(Member member, List<MemberTitleLog> memberTitleLogs) {
+        // 대표 칭호 조회(회원가입 후 바로 칭호가 부여되지 않기 때문에 회원가입 당일에는 대표 칭호가 없을 수 있음)
+        String mainMemberTitle = null;
+        for (MemberTitleLog memberTitleLog : memberTitleLogs) {
+            if (Boolean.TRUE.equals(memberTitleLog.getIsMain())) {
+                mainMemberTitle = memberTitleLog.getMemberTitleName();
+                break;
+            }
+        }
+        return new MemberProfile(member.getId(), member.getNickname(), mainMemberTitle, memberTitleLogs.size());
+    }
+}
@@ -3,6 +3,7 @@ package com.idea5.four_cut_photos_map.domain.member.dto.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.idea5.four_cut_photos_map.domain.member.dto.MemberProfile;
 import com.idea5.four_cut_photos_map.domain.member.entity.Member;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,4 +28,13 @@ public class MemberInfoResp {
                 .memberTitleCnt(memberTitleCnt)
                 .build();
     }
+
+    public static MemberInfoResp from(MemberProfile profile) {
+        return MemberInfoResp.builder()
+                .id(profile.getId())
+                .nickname(profile.getNickname())
+                .mainMemberTitle(profile.getMainMemberTitle())
+                .memberTitleCnt(profile.getMemberTitleCnt())
+                .build();
+    }
 }
@@ -0,0 +1,139 @@
+package com.idea5.four_cut_photos_map.domain.member.service;
+
+import com.idea5.four_cut_photos_map.domain.member.dto.MemberProfile;
+import com.idea5.four_cut_photos_map.domain.member.entity.Member;
+import com.idea5.four_cut_photos_map.domain.member.repository.MemberRepository;
+import com.idea5.four_cut_photos_map.domain.memberTitle.repository.MemberTitleLogRepository;
+import com.idea5.four_cut_photos_map.global.cache.LocalCache;
+import com.idea5.four_cut_photos_map.global.common.RedisDao;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 프로필(nickname, 대표 칭호, 칭호 개수) 캐시 (서버별 메모리)
+ * - 인증 객체의 nickname, 회원 정보 조회, 리뷰 작성자 정보가 요청마다 Member, MemberTitleLog 를 조회하지 않도록 보관
+ * - 닉네임 수정, 칭호 부여/변경, 회원 탈퇴 시 evict 를 호출하면 커밋 후 이 서버에서 제거하고
+ *   Redis pub/sub 으로 다른 서버에도 제거를 알린다. (메시지를 놓쳐도 ttl-seconds 후 만료)
+ */
+@Slf4j
+@Component
+public class MemberProfileCache implements MessageListener {
+    private static final String CHANNEL = "member_profile";
+
+    private final MemberRepository memberRepository;
+    private final MemberTitleLogRepository memberTitleLogRepository;
+    private final RedisDao redisDao;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LocalCache<Long, MemberProfile> cache;
+    private final long ttlMillis;
+
+    // 무효화할 때마다 증가, 조회 중에 무효화되었으면 조회한 값을 저장하지 않음 (이전 값이 다시 저장되는 것을 방지)
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberProfileCache(MemberRepository memberRepository,
+                              MemberTitleLogRepository memberTitleLogRepository,
+                              RedisDao redisDao,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.profile-cache.max-size:10000}") int maxSize,
+                              @Value("${member.profile-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.memberTitleLogRepository = memberTitleLogRepository;
+        this.redisDao = redisDao;
+        this.listenerContainer = listenerContainer;
+        this.cache = new LocalCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+
+        FunctionCounter.builder("member.profile_cache", cache, LocalCache::getHitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("member.profile_cache", cache, LocalCache::getMissCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("member.profile_cache.size", cache, LocalCache::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시에 있는 프로필만 조회, 없으면 null (DB 조회 안 함)
+    public MemberProfile getIfPresent(Long memberId) {
+        return cache.get(memberId);
+    }
+
+    // 프로필 조회, 캐시에 없으면 DB 에서 조회해서 저장, 회원이 없으면 null
+    @Transactional(readOnly = true)
+    public MemberProfile get(Long memberId) {
+        MemberProfile profile = cache.get(memberId);
+        if (profile != null) return profile;
+
+        long loadedGeneration = generation.get();
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null) return null;
+        profile = MemberProfile.of(member, memberTitleLogRepository.findByMember(member));
+        if (generation.get() == loadedGeneration) {
+            cache.putWithTtl(memberId, profile, ttlMillis);
+        }
+        return profile;
+    }
+
+    // 프로필 무효화, 트랜잭션 안이면 완료 후 한 번 더 제거하고 커밋된 경우 다른 서버에 전파
+    public void evict(Long memberId) {
+        remove(memberId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 트랜잭션 도중에 다시 조회된 값(커밋 전 또는 롤백된 값)도 제거
+                remove(memberId);
+                if (status == STATUS_COMMITTED) {
+                    publish(memberId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            remove(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("회원 프로필 무효화 메시지 형식 오류");
+        }
+    }
+
+    private void remove(Long memberId) {
+        generation.incrementAndGet();
+        cache.remove(memberId);
+    }
+
+    private void publish(Long memberId) {
+        try {
+            redisDao.publish(CHANNEL, memberId.toString());
+        } catch (RuntimeException e) {
+            // 다른 서버의 캐시는 ttl-seconds 후 만료
+            log.warn("회원 프로필 무효화 전파 실패, memberId={}, message={}", memberId, e.getMessage());
+        }
+    }
+}
@@ -3,15 +3,17 @@ package com.idea5.four_cut_photos_map.domain.member.service;
 import com.idea5.four_cut_photos_map.domain.auth.dto.response.KakaoTokenResp;
 import com.idea5.four_cut_photos_map.domain.auth.dto.response.KakaoUserInfoParam;
 import com.idea5.four_cut_photos_map.domain.favorite.service.FavoriteService;
+import com.idea5.four_cut_photos_map.domain.member.dto.MemberProfile;
 import com.idea5.four_cut_photos_map.domain.member.dto.request.MemberUpdateReq;
 import com.idea5.four_cut_photos_map.domain.member.dto.response.MemberInfoResp;
 import com.idea5.four_cut_photos_map.domain.member.dto.response.MemberWithdrawlResp;
 import com.idea5.four_cut_photos_map.domain.member.entity.Member;
 import com.idea5.four_cut_photos_map.domain.member.repository.MemberRepository;
-import com.idea5.four_cut_photos_map.domain.memberTitle.entity.MemberTitleLog;
 import com.idea5.four_cut_photos_map.domain.memberTitle.service.MemberTitleService;
 import com.idea5.four_cut_photos_map.global.common.RedisDao;
 import com.idea5.four_cut_photos_map.security.jwt.JwtProvider;
+import com.idea5.four_cut_photos_map.security.jwt.TokenBlacklist;
+import com.idea5.four_cut_photos_map.security.jwt.dto.JwtClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,8 @@ public class MemberService {
     private final RedisDao redisDao;
     private final MemberTitleService memberTitleService;
     private final FavoriteService favoriteService;
+    private final TokenBlacklist tokenBlacklist;
+    private final MemberProfileCache memberProfileCache;
 
     // 회원 가져오기
     @Transactional
@@ -58,34 +62,29 @@ public class MemberService {
         return memberRepository.findById(id).orElse(null);
     }
 
-    // 회원 id 로 기본 정보 조회
+    // 회원 id 로 기본 정보 조회(프로필 캐시)
     public MemberInfoResp getMemberInfo(Long id) {
-        Member member = memberRepository.findById(id).orElseThrow(() -> new IllegalArgumentException());
-        log.info("----Before memberTitleService.findByMember(member)----");
-        List<MemberTitleLog> memberTitleLogs = memberTitleService.findByMember(member);
-        // 대표 칭호 조회(회원가입 후 바로 칭호가 부여되지 않기 때문에 회원가입 당일에는 대표 칭호가 없을 수 있음)
-        String mainMemberTitle = null;
-        for(MemberTitleLog memberTitleLog : memberTitleLogs) {
-            if(memberTitleLog.getIsMain()) {
-                log.info("----Before memberTitleLog.getMemberTitleName()----");
-                mainMemberTitle = memberTitleLog.getMemberTitleName();
-                break;
-            }
+        MemberProfile profile = memberProfileCache.get(id);
+        if(profile == null) {
+            throw new IllegalArgumentException();
         }
-        return MemberInfoResp.toDto(member, mainMemberTitle, memberTitleLogs.size());
+        return MemberInfoResp.from(profile);
     }
 
     // 서비스 로그아웃(accessToken 무효화)
     public void logout(String accessToken) {
         // 1. 회원의 refreshToken 이 있으면 삭제
-        Long memberId = jwtProvider.getId(accessToken);
+        JwtClaims claims = jwtProvider.parse(accessToken);
+        Long memberId = claims.getId();
         if(redisDao.hasKey(memberId.toString())) {
             redisDao.deleteValues(memberId.toString());
         }
         // 2. redis 에 해당 accessToken 블랙리스트로 등록
-        Long expiration = jwtProvider.getExpiration(accessToken);
-        String key = "jwt_black_list:" + accessToken;
+        Long expiration = claims.getRemainingMillis();
+        String key = TokenBlacklist.KEY_PREFIX + accessToken;
         redisDao.setValues(key, "logout", Duration.ofMillis(expiration));
+        tokenBlacklist.add(accessToken);
+        jwtProvider.invalidate(accessToken);
     }
 
     // 회원 삭제
@@ -97,14 +96,17 @@ public class MemberService {
         }
         // 2. redis 에 해당 accessToken 블랙리스트로 등록
         Long expiration = jwtProvider.getExpiration(accessToken);
-        String key = "jwt_black_list:" + accessToken;
+        String key = TokenBlacklist.KEY_PREFIX + accessToken;
         redisDao.setValues(key, "withdrawl", Duration.ofMillis(expiration));
+        tokenBlacklist.add(accessToken);
+        jwtProvider.invalidate(accessToken);
         // TODO: 양방향 매핑으로 변경할지 고민중
         // TODO: Member 삭제하기 전 Member 를 참조하고 있는 엔티티(MemberTitleLog, Favorite) 먼저 삭제하기
         memberTitleService.deleteByMemberId(id);
         favoriteService.deleteByMemberId(id);
         // 3. DB 에서 회원 삭제
         memberRepository.deleteById(id);
+        memberProfileCache.evict(id);
         return new MemberWithdrawlResp(id);
     }
 
@@ -116,6 +118,7 @@ public class MemberService {
         // redis 에 저장된 nickname 수정
         String key = "member:" + member.getId() + ":nickname";
         redisDao.setValues(key, memberUpdateReq.getNickname());
+        memberProfileCache.evict(id);
     }
 
     // 회원 대표칭호 수정
@@ -2,6 +2,7 @@ package com.idea5.four_cut_photos_map.domain.memberTitle.service;
 
 import com.idea5.four_cut_photos_map.domain.favorite.service.FavoriteService;
 import com.idea5.four_cut_photos_map.domain.member.entity.Member;
+import com.idea5.four_cut_photos_map.domain.member.service.MemberProfileCache;
 import com.idea5.four_cut_photos_map.domain.memberTitle.dto.response.MemberTitleInfoResp;
 import com.idea5.four_cut_photos_map.domain.memberTitle.dto.response.MemberTitleResp;
 import com.idea5.four_cut_photos_map.domain.memberTitle.entity.MemberTitle;
@@ -28,6 +29,7 @@ public class MemberTitleService {
     private final MemberTitleRepository memberTitleRepository;
     private final MemberTitleLogRepository memberTitleLogRepository;
     private final FavoriteService favoriteService;
+    private final MemberProfileCache memberProfileCache; // 칭호가 바뀌면 회원 프로필(대표 칭호, 칭호 개수) 무효화
 
     public MemberTitle findById(Long id) {
         return memberTitleRepository.findById(id).orElseThrow(() -> {
@@ -73,10 +75,12 @@ public class MemberTitleService {
     public void addMemberTitle(Member member, Long memberTitleId, Boolean isMain) {
         MemberTitle memberTitle = findById(memberTitleId);
         memberTitleLogRepository.save(new MemberTitleLog(member, memberTitle, isMain));
+        memberProfileCache.evict(member.getId());
     }
 
     public void addMemberTitle(Member member, MemberTitle memberTitle, Boolean isMain) {
         memberTitleLogRepository.save(new MemberTitleLog(member, memberTitle, isMain));
+        memberProfileCache.evict(member.getId());
     }
 
     // 회원 대표 칭호 수정
@@ -93,6 +97,7 @@ public class MemberTitleService {
                     throw new BusinessException(ErrorCode.MEMBER_TITLE_NOT_HAD);
                 });
         newMemberTitleLog.registerMain();
+        memberProfileCache.evict(member.getId());
     }
 
     // memberId 를 참조하고 있는 row 모두 삭제
@@ -104,6 +109,7 @@ public class MemberTitleService {
         for(MemberTitleLog memberTitleLog : memberTitleLogs) {
             memberTitleLogRepository.delete(memberTitleLog);
         }
+        memberProfileCache.evict(memberId);
     }
 
     public List<MemberTitle> findAllMemberTitle() {
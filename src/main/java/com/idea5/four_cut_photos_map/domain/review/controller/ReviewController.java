@@ -10,12 +10,14 @@ import com.idea5.four_cut_photos_map.global.error.exception.BusinessException;
 import com.idea5.four_cut_photos_map.security.jwt.dto.MemberContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -76,12 +78,15 @@ public class ReviewController {
      * 상점 관련
      */
     @GetMapping("/shop/{shop-id}")
-    public ResponseEntity<RsData> getShopReviews(@PathVariable("shop-id") Long shopId) {
+    public ResponseEntity<RsData> getShopReviews(@PathVariable("shop-id") Long shopId, WebRequest webRequest) {
+        // 이전 응답과 같으면 304 (리뷰 조회, 직렬화 생략)
+        if (webRequest.checkNotModified(reviewService.getShopReviewsETag(shopId))) return null;
+
         List<ResponseReviewDto> reviews = reviewService.getAllShopReviews(shopId);
 
-        return new ResponseEntity<>(
-                new RsData<>(true, "상점의 모든 리뷰 조회 완료", reviews),
-                HttpStatus.OK);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(new RsData<>(true, "상점의 모든 리뷰 조회 완료", reviews));
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -0,0 +1,18 @@
+package com.idea5.four_cut_photos_map.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상점 리뷰 목록 응답이 바뀌었는지 판단하는 값 (ETag 생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class ShopReviewsVersionDto {
+    private LocalDateTime shopModifyDate; // 상점 수정 시각 (리뷰에 상점명, 주소 포함)
+    private Long reviewCount; // 리뷰 수 (삭제 반영)
+    private LocalDateTime reviewModifyDate; // 가장 최근 리뷰 작성/수정 시각
+    private LocalDateTime writerModifyDate; // 가장 최근 작성자 정보(닉네임) 수정 시각
+}
@@ -1,7 +1,10 @@
 package com.idea5.four_cut_photos_map.domain.review.repository;
 
+import com.idea5.four_cut_photos_map.domain.review.dto.ShopReviewsVersionDto;
 import com.idea5.four_cut_photos_map.domain.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +19,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findAllByWriterIdOrderByCreateDateDesc(Long writerId);
 
     List<Review> findTop3ByShopIdOrderByCreateDateDesc(Long shopId);
+
+    // 상점 리뷰 목록 ETag 용 값을 쿼리 1번으로 조회, 상점이 없으면 empty
+    @Query("select new com.idea5.four_cut_photos_map.domain.review.dto.ShopReviewsVersionDto(s.modifyDate, count(r), max(r.modifyDate), max(w.modifyDate))" +
+            " from Shop s left join Review r on r.shop = s left join r.writer w" +
+            " where s.id = :shopId group by s.id, s.modifyDate")
+    Optional<ShopReviewsVersionDto> findShopReviewsVersion(@Param("shopId") Long shopId);
 }
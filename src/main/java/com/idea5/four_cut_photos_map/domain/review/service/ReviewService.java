@@ -2,6 +2,7 @@ package com.idea5.four_cut_photos_map.domain.review.service;
 
 import com.idea5.four_cut_photos_map.domain.member.entity.Member;
 import com.idea5.four_cut_photos_map.domain.member.service.MemberService;
+import com.idea5.four_cut_photos_map.domain.review.dto.ShopReviewsVersionDto;
 import com.idea5.four_cut_photos_map.domain.review.dto.request.RequestReviewDto;
 import com.idea5.four_cut_photos_map.domain.review.dto.response.ResponseReviewDto;
 import com.idea5.four_cut_photos_map.domain.review.entity.Review;
@@ -13,6 +14,7 @@ import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
 import com.idea5.four_cut_photos_map.domain.shop.service.ShopService;
 import com.idea5.four_cut_photos_map.global.error.ErrorCode;
 import com.idea5.four_cut_photos_map.global.error.exception.BusinessException;
+import com.idea5.four_cut_photos_map.global.util.ETags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -47,6 +49,15 @@ public class ReviewService {
         return ResponseReviewDto.from(review);
     }
 
+    // 상점 리뷰 목록 ETag, 리뷰 작성/수정/삭제, 작성자 정보, 상점 정보가 바뀌면 달라짐
+    @Transactional(readOnly = true)
+    public String getShopReviewsETag(Long shopId) {
+        ShopReviewsVersionDto version = reviewRepository.findShopReviewsVersion(shopId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_NOT_FOUND));
+        return ETags.of(shopId, version.getShopModifyDate(), version.getReviewCount(),
+                version.getReviewModifyDate(), version.getWriterModifyDate());
+    }
+
     @Transactional(readOnly = true)
     public List<ResponseReviewDto> getAllShopReviews(Long shopId) {
         Shop shop = shopService.findById(shopId);
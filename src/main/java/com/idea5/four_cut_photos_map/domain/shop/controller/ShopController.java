@@ -6,29 +6,34 @@ import com.idea5.four_cut_photos_map.domain.favorite.entity.Favorite;
 import com.idea5.four_cut_photos_map.domain.favorite.service.FavoriteService;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoKeywordResponseDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
-import com.idea5.four_cut_photos_map.domain.shop.dto.ShopDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestBrandSearch;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestKeywordSearch;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShop;
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShopCluster;
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShopMarkerDelta;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShop;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopAutocomplete;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopBrand;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopClusters;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopDetail;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopMarker;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopMarkerDelta;
+import com.idea5.four_cut_photos_map.domain.shop.service.ShopClusterService;
 import com.idea5.four_cut_photos_map.domain.shop.service.ShopService;
 import com.idea5.four_cut_photos_map.domain.shoptitlelog.service.ShopTitleLogService;
-import com.idea5.four_cut_photos_map.global.common.data.Brand;
 import com.idea5.four_cut_photos_map.global.common.response.RsData;
 import com.idea5.four_cut_photos_map.global.error.exception.BusinessException;
 import com.idea5.four_cut_photos_map.security.jwt.dto.MemberContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -41,8 +46,10 @@ import static com.idea5.four_cut_photos_map.global.error.ErrorCode.DISTANCE_IS_E
 @RequiredArgsConstructor
 @Slf4j
 public class ShopController {
+    private static final int AUTOCOMPLETE_MAX_LIMIT = 20; // 자동완성 최대 개수
 
     private final ShopService shopService;
+    private final ShopClusterService shopClusterService;
     private final FavoriteService favoriteService;
 
     private final ShopTitleLogService shopTitleLogService;
@@ -61,25 +68,27 @@ public class ShopController {
         );
     }
 
+    // 상점명/주소 자동완성, 초성 검색 가능 ex) ㅇㅅㄴㅋ, 인생네컷 ㅅㅇ
+    @GetMapping("/autocomplete")
+    public ResponseEntity<RsData<List<ResponseShopAutocomplete>>> autocomplete(@RequestParam(name = "keyword", defaultValue = "") String keyword,
+                                                                               @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<ResponseShopAutocomplete> shops = shopService.autocomplete(keyword, Math.min(Math.max(limit, 0), AUTOCOMPLETE_MAX_LIMIT));
+
+        return ResponseEntity.ok(
+                new RsData<List<ResponseShopAutocomplete>>(true, "자동완성 조회 성공", shops)
+        );
+    }
+
     @GetMapping("/brand")
     public ResponseEntity<RsData<List<ResponseShopBrand>>> showBrandListBySearch(@ModelAttribute @Valid RequestBrandSearch requestBrandSearch) {
         // api 검색전, DB에서 먼저 있는지 확인하는게 더 효율적
-        List<ShopDto> shopDtos = shopService.findByBrand(requestBrandSearch.getBrand());
-        if (shopDtos.isEmpty())
+        if (!shopService.existsBrand(requestBrandSearch.getBrand()))
             throw new BusinessException(BRAND_NOT_FOUND);
 
         List<KakaoResponseDto> kakaoApiResponse = shopService.searchBrand(requestBrandSearch);
-        List<ResponseShopBrand> resultShops = new ArrayList<>(); // 응답값 리스트
 
         // 카카오 맵 api로 부터 받아온 Shop 리스트와 db에 저장된 Shop 비교
-        for (KakaoResponseDto apiShop : kakaoApiResponse) {
-            for (ShopDto shopDto : shopDtos) {
-                if (apiShop.getRoadAddressName().equals(shopDto.getRoadAddressName())) {
-                    resultShops.add(ResponseShopBrand.of(apiShop));
-                    break;
-                }
-            }
-        }
+        List<ResponseShopBrand> resultShops = shopService.matchBrandShops(kakaoApiResponse, requestBrandSearch.getBrand());
 
         // 검색 결과, 근처에 원하는 브랜드가 없을 때
         if (resultShops.isEmpty()) {
@@ -96,18 +105,36 @@ public class ShopController {
 
     //현재 위치 기준, 반경 2km
     @GetMapping("/marker")
-    public ResponseEntity<RsData<Map<String, List<ResponseShopMarker>>>> currentLocationSearch(@ModelAttribute @Valid RequestShop requestShop) {
+    public ResponseEntity<RsData<Map<String, List<ResponseShopMarker>>>> currentLocationSearch(@ModelAttribute @Valid RequestShop requestShop,
+                                                                                             WebRequest webRequest) {
+        // 브랜드명 ( 하루필름, 인생네컷 ... ) 별로 동시에 조회, 제한 시간을 넘긴 브랜드는 빈 리스트
+        Map<String, List<ResponseShopMarker>> maps = shopService.searchMarkersByBrands(requestShop);
 
-        String[] names = Brand.Names; // 브랜드명 ( 하루필름, 인생네컷 ... )
+        // 이전 응답과 같으면 304 (직렬화, 전송 생략)
+        if (webRequest.checkNotModified(shopService.getMarkersETag(maps))) return null;
 
-        Map<String, List<ResponseShopMarker>> maps = new HashMap<>();
-        for (String brandName : names) {
-            List<ResponseShopMarker> list = shopService.searchMarkers(requestShop, brandName);
-            maps.put(brandName, list);
-        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(new RsData<Map<String, List<ResponseShopMarker>>>(true, "Shop 마커 성공", maps));
+    }
+
+    // 지도를 움직였을 때 이전 응답 대비 추가/삭제된 마커만 조회 (knownIds 또는 이전 중심 좌표 전달)
+    @GetMapping("/marker/delta")
+    public ResponseEntity<RsData<ResponseShopMarkerDelta>> currentLocationDelta(@ModelAttribute @Valid RequestShopMarkerDelta requestShopMarkerDelta) {
+        ResponseShopMarkerDelta delta = shopService.searchMarkerDeltasByBrands(requestShopMarkerDelta);
+
+        return ResponseEntity.ok(
+                new RsData<ResponseShopMarkerDelta>(true, "Shop 마커 변경분 조회 성공", delta)
+        );
+    }
+
+    // 지도 화면 영역 기준, 넓은 화면은 격자별 클러스터(개수, 평균 좌표), 좁은 화면은 개별 마커
+    @GetMapping("/cluster")
+    public ResponseEntity<RsData<ResponseShopClusters>> cluster(@ModelAttribute @Valid RequestShopCluster requestShopCluster) {
+        ResponseShopClusters clusters = shopClusterService.cluster(requestShopCluster);
 
         return ResponseEntity.ok(
-                new RsData<Map<String, List<ResponseShopMarker>>>(true, "Shop 마커 성공", maps)
+                new RsData<ResponseShopClusters>(true, "Shop 클러스터 조회 성공", clusters)
         );
     }
 
@@ -115,10 +142,15 @@ public class ShopController {
     @GetMapping("/{shopId}")
     public ResponseEntity<ResponseShopDetail> detail(@PathVariable(name = "shopId") Long id,
                                                      @RequestParam(name = "distance", required = false, defaultValue = "") String distance,
-                                                     @AuthenticationPrincipal MemberContext memberContext) {
+                                                     @AuthenticationPrincipal MemberContext memberContext,
+                                                     WebRequest webRequest) {
         if (distance.isEmpty()) {
             throw new BusinessException(DISTANCE_IS_EMPTY);
         }
+        // 이전 응답과 같으면 304 (상세 조회, 직렬화 생략)
+        String eTag = shopService.getShopDetailETag(id, distance, memberContext == null ? null : memberContext.getId());
+        if (webRequest.checkNotModified(eTag)) return null;
+
         ResponseShopDetail shopDetailDto = shopService.findShopById(id, distance);
 
         if (memberContext != null) {
@@ -131,11 +163,14 @@ public class ShopController {
             }
         }
 
-        if (shopTitleLogService.existShopTitles(id)) {
-            List<String> shopTitles = shopTitleLogService.getShopTitles(id);
+        List<String> shopTitles = shopTitleLogService.getShopTitlesByShopIds(Collections.singletonList(id)).get(id);
+        if (shopTitles != null) {
             shopDetailDto.setShopTitles(shopTitles);
         }
 
-        return ResponseEntity.ok(shopDetailDto);
+        // 회원마다 찜 여부가 다르므로 공유 캐시에 저장하지 않음
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(shopDetailDto);
     }
 }
\ No newline at end of file
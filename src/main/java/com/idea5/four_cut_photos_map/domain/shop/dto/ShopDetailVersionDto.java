@@ -0,0 +1,19 @@
+package com.idea5.four_cut_photos_map.domain.shop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상점 상세 응답이 바뀌었는지 판단하는 값 (ETag 생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class ShopDetailVersionDto {
+    private LocalDateTime modifyDate; // 상점 수정 시각
+    private Integer favoriteCnt; // 찜 수
+    private Long titleCount; // 칭호 수
+    private LocalDateTime titleModifyDate; // 가장 최근 칭호 부여 시각
+    private Long favoriteCount; // 회원의 찜 여부 (0 또는 1)
+}
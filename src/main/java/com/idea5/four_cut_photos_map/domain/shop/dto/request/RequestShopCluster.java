@@ -0,0 +1,33 @@
+package com.idea5.four_cut_photos_map.domain.shop.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.NotNull;
+
+/**
+ * 지도 화면 영역 (남서쪽 ~ 북동쪽 좌표)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class RequestShopCluster {
+
+    @NotNull(message = "화면 최소 경도는 필수 입력값 입니다.")
+    private Double minLongitude; // 남서쪽 경도
+    @NotNull(message = "화면 최소 위도는 필수 입력값 입니다.")
+    private Double minLatitude; // 남서쪽 위도
+    @NotNull(message = "화면 최대 경도는 필수 입력값 입니다.")
+    private Double maxLongitude; // 북동쪽 경도
+    @NotNull(message = "화면 최대 위도는 필수 입력값 입니다.")
+    private Double maxLatitude; // 북동쪽 위도
+    private String brand; // 브랜드명, 없으면 모든 브랜드
+
+    @AssertTrue(message = "화면 영역은 남서쪽 좌표가 북동쪽 좌표보다 작아야 합니다.")
+    public boolean isValidBounds() {
+        if (minLongitude == null || minLatitude == null || maxLongitude == null || maxLatitude == null) return true;
+        return minLongitude <= maxLongitude && minLatitude <= maxLatitude;
+    }
+}
@@ -0,0 +1,35 @@
+package com.idea5.four_cut_photos_map.domain.shop.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * 마커 변경분 조회
+ * - knownIds(클라이언트가 가진 마커 id) 나 이전 중심 좌표 중 하나를 보내면 바뀐 마커만 응답한다.
+ * - 둘 다 보내면 knownIds 를 사용하고, 둘 다 없으면 전체 마커를 added 로 응답한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class RequestShopMarkerDelta {
+
+    @NotNull(message = "경도는 필수 입력값 입니다.")
+    private Double longitude; // 경도
+    @NotNull(message = "위도는 필수 입력값 입니다.")
+    private Double latitude; // 위도
+    private Double prevLongitude; // 이전 요청의 경도
+    private Double prevLatitude; // 이전 요청의 위도
+    private List<Long> knownIds; // 클라이언트가 가진 마커 id ex) knownIds=1,2,3
+
+    public boolean hasPrevLocation() {
+        return prevLongitude != null && prevLatitude != null;
+    }
+
+    public RequestShop toRequestShop() {
+        return new RequestShop(longitude, latitude);
+    }
+}
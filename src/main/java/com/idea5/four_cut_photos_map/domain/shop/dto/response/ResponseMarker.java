@@ -1,6 +1,8 @@
 package com.idea5.four_cut_photos_map.domain.shop.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopLocation;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,6 +18,7 @@ public class ResponseMarker {
     private String name;// 장소명
     private double latitude; // 위도
     private double longitude; // 경도
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String distance; // 중심좌표까지의 거리
 
 
@@ -26,6 +29,15 @@ public class ResponseMarker {
                 .build();
     }
 
+    public static ResponseMarker from(ShopLocation shop){
+        return ResponseMarker.builder()
+                .id(shop.getId())
+                .name(shop.getPlaceName())
+                .latitude(shop.getLatitude())
+                .longitude(shop.getLongitude())
+                .build();
+    }
+
     public void setDistance(String distance){
         this.distance = distance;
     }
@@ -1,9 +1,12 @@
 package com.idea5.four_cut_photos_map.domain.shop.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoKeywordResponseDto;
 import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
 import lombok.*;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 @ToString
@@ -16,6 +19,10 @@ public class ResponseShop {
     private double longitude; // 경도
     private String distance; // 중심좌표까지의 거리
 
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_EMPTY) // 보유한 칭호가 없으면 응답 데이터에서 제외
+    private List<String> shopTitles; // 상점이 보유한 칭호
+
     public static ResponseShop from(Shop shop, KakaoKeywordResponseDto apiShop){
         return ResponseShop.builder()
                 .id(shop.getId())
@@ -0,0 +1,24 @@
+package com.idea5.four_cut_photos_map.domain.shop.dto.response;
+
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopLocation;
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ResponseShopAutocomplete {
+
+    private Long id;
+    private String placeName; // 장소명
+    private String roadAddressName; // 도로명 주소
+
+    static public ResponseShopAutocomplete from(ShopLocation shop) {
+        return ResponseShopAutocomplete.builder()
+                .id(shop.getId())
+                .placeName(shop.getPlaceName())
+                .roadAddressName(shop.getRoadAddressName())
+                .build();
+    }
+}
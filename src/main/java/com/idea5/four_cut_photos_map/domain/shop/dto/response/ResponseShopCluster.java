@@ -0,0 +1,20 @@
+package com.idea5.four_cut_photos_map.domain.shop.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 격자 하나에 모인 Shop 묶음
+ */
+@Builder
+@AllArgsConstructor
+@Getter
+@ToString
+public class ResponseShopCluster {
+
+    private double longitude; // 묶인 Shop 좌표의 평균 경도
+    private double latitude; // 묶인 Shop 좌표의 평균 위도
+    private int count; // 묶인 Shop 수
+}
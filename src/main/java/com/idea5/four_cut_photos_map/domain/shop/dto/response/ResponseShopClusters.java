@@ -0,0 +1,26 @@
+package com.idea5.four_cut_photos_map.domain.shop.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 지도 화면 영역의 Shop 클러스터
+ * - 화면이 충분히 좁으면 clusters 없이 개별 마커(markers)만 응답한다.
+ * - 넓은 화면에서도 혼자 있는 Shop 은 클러스터 대신 마커로 응답한다.
+ */
+@Builder
+@AllArgsConstructor
+@Getter
+@ToString
+public class ResponseShopClusters {
+
+    private boolean clustered; // 클러스터로 묶었는지 여부
+    private double cellSize; // 클러스터 격자 크기(도), 묶지 않았으면 0
+    private int totalCount; // 화면 안 Shop 수
+    private List<ResponseShopCluster> clusters;
+    private List<ResponseMarker> markers;
+}
@@ -2,6 +2,7 @@ package com.idea5.four_cut_photos_map.domain.shop.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopLocation;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -42,4 +43,17 @@ public class ResponseShopMarker {
                 .distance(dto.getDistance())
                 .build();
     }
+
+    static public ResponseShopMarker from(ShopLocation shop, String distance){
+        String phone = shop.getPhone() == null || shop.getPhone().isEmpty() ? "미등록" : shop.getPhone();
+        return ResponseShopMarker.builder()
+                .id(shop.getId())
+                .placeName(shop.getPlaceName())
+                .roadAddressName(shop.getRoadAddressName())
+                .phone(phone)
+                .x(String.valueOf(shop.getLongitude()))
+                .y(String.valueOf(shop.getLatitude()))
+                .distance(distance)
+                .build();
+    }
 }
@@ -0,0 +1,22 @@
+package com.idea5.four_cut_photos_map.domain.shop.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이전 응답 대비 바뀐 마커
+ * - added : 브랜드명 -> 새로 보여줄 마커 (이미 가진 id 면 교체)
+ * - removed : 반경을 벗어나서 지울 마커 id
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ResponseShopMarkerDelta {
+
+    private Map<String, List<ResponseShopMarker>> added;
+    private List<Long> removed;
+}
@@ -4,9 +4,7 @@ import com.idea5.four_cut_photos_map.global.base.entity.BaseEntity;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
-import javax.persistence.Entity;
-import javax.persistence.Index;
-import javax.persistence.Table;
+import javax.persistence.*;
 
 @Entity
 @Getter
@@ -15,13 +13,21 @@ import javax.persistence.Table;
 @NoArgsConstructor
 @SuperBuilder
 @ToString(callSuper = true)
+@EntityListeners(ShopEntityListener.class)
 @Table(indexes = {@Index(name = "idx_shop_address",columnList = "roadAddressName"),
-        @Index(name = "idx_shop_name",columnList = "roadAddressName")})
+        @Index(name = "idx_shop_name",columnList = "roadAddressName"),
+        @Index(name = "idx_shop_brand",columnList = "brand")})
 public class Shop extends BaseEntity {
 
     private String placeName; // 상점명
+    @Convert(converter = ShopBrandConverter.class)
+    @Column(length = 20)
+    private ShopBrand brand; // 브랜드, 상점명으로 판별해서 저장 (해당 없으면 null)
     private String roadAddressName; // 주소
     private Integer favoriteCnt; // 찜 수 // MySQL Integer == MySQL int
+    private Double longitude; // 경도, 카카오맵 API 결과로 채워짐 (없으면 null)
+    private Double latitude; // 위도
+    private String phone; // 전화번호
 
 
     // TODO: 상점 상세페이지뿐만 아니라 상점 리스트 페이지에도 favoriteCnt(찜 수)를 전송해야 할 지? 논의
@@ -31,4 +37,30 @@ public class Shop extends BaseEntity {
         this.placeName = placeName;
         this.roadAddressName = roadAddressName;
     }
+
+    public Shop(String placeName, String roadAddressName, Integer favoriteCnt) {
+        this.placeName = placeName;
+        this.roadAddressName = roadAddressName;
+        this.favoriteCnt = favoriteCnt;
+    }
+
+    // 저장, 수정 전 상점명으로 브랜드 갱신
+    @PrePersist
+    @PreUpdate
+    private void updateBrand() {
+        this.brand = ShopBrand.fromPlaceName(placeName);
+    }
+
+    public boolean hasLocation() {
+        return longitude != null && latitude != null;
+    }
+
+    // 좌표(경도, 위도) 저장, 전화번호는 값이 있을 때만 갱신
+    public void updateLocation(Double longitude, Double latitude, String phone) {
+        this.longitude = longitude;
+        this.latitude = latitude;
+        if (phone != null && !phone.isEmpty()) {
+            this.phone = phone;
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.idea5.four_cut_photos_map.domain.shop.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상점 브랜드 (Brand.Names 와 같은 순서)
+ * - DB 에는 브랜드명(brandName)으로 저장한다. (ShopBrandConverter)
+ */
+@Getter
+@AllArgsConstructor
+public enum ShopBrand {
+    HARU_FILM("하루필름"),
+    LIFE_FOUR_CUT("인생네컷"),
+    PHOTOISM_BOX("포토이즘박스"),
+    PIC_DOT("픽닷");
+
+    private final String brandName; // 브랜드명, 상점명은 브랜드명으로 시작 ex) 인생네컷 서울숲점
+
+    // 브랜드명 -> ShopBrand, 해당 없으면 null
+    public static ShopBrand fromBrandName(String brandName) {
+        if (brandName == null) return null;
+        for (ShopBrand brand : values()) {
+            if (brand.brandName.equals(brandName)) return brand;
+        }
+        return null;
+    }
+
+    // 상점명으로 브랜드 판별, 해당 없으면 null
+    public static ShopBrand fromPlaceName(String placeName) {
+        if (placeName == null) return null;
+        for (ShopBrand brand : values()) {
+            if (placeName.startsWith(brand.brandName)) return brand;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.idea5.four_cut_photos_map.domain.shop.entity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * ShopBrand <-> 브랜드명 변환 (ex. LIFE_FOUR_CUT <-> 인생네컷)
+ * - 기존 데이터(data.sql)의 brand 컬럼 값과 같은 형식으로 저장한다.
+ */
+@Converter
+public class ShopBrandConverter implements AttributeConverter<ShopBrand, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ShopBrand brand) {
+        return brand == null ? null : brand.getBrandName();
+    }
+
+    @Override
+    public ShopBrand convertToEntityAttribute(String brandName) {
+        // 정해진 브랜드가 아닌 값은 브랜드 없음으로 취급
+        return ShopBrand.fromBrandName(brandName);
+    }
+}
@@ -0,0 +1,35 @@
+package com.idea5.four_cut_photos_map.domain.shop.entity;
+
+import com.idea5.four_cut_photos_map.AppConfig;
+import com.idea5.four_cut_photos_map.domain.shop.event.ShopChangedEvent;
+import org.springframework.context.ApplicationContext;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Shop 엔티티 변경을 감지해서 ShopChangedEvent 를 발행하는 JPA 엔티티 리스너
+ * - flush 시점(커밋 전)에 발행되고, 인덱스는 트랜잭션이 커밋된 뒤에 반영한다. (@TransactionalEventListener)
+ */
+public class ShopEntityListener {
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(Shop shop) {
+        publish(new ShopChangedEvent(shop, ShopChangedEvent.Type.SAVED));
+    }
+
+    @PostRemove
+    public void afterRemove(Shop shop) {
+        publish(new ShopChangedEvent(shop, ShopChangedEvent.Type.REMOVED));
+    }
+
+    private void publish(ShopChangedEvent event) {
+        ApplicationContext context = AppConfig.getContext();
+        // 컨텍스트 초기화 전(스키마 생성 등)에는 구독자가 없으므로 무시
+        if (context != null) {
+            context.publishEvent(event);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.idea5.four_cut_photos_map.domain.shop.event;
+
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Shop 엔티티가 저장/수정/삭제 되었을 때 발행되는 이벤트
+ * - 인메모리 인덱스들이 DB 전체를 다시 읽지 않고 변경된 Shop 만 반영하기 위해 사용
+ * - flush 시점(커밋 전)에 발행되므로, 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 변경만 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ShopChangedEvent {
+    private final Shop shop;
+    private final Type type;
+
+    public enum Type {
+        SAVED, REMOVED
+    }
+}
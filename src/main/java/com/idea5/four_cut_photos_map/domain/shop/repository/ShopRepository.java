@@ -1,17 +1,32 @@
 package com.idea5.four_cut_photos_map.domain.shop.repository;
 
+import com.idea5.four_cut_photos_map.domain.shop.dto.ShopDetailVersionDto;
 import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.entity.ShopBrand;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ShopRepository extends JpaRepository<Shop, Long> {
     List<Shop> findDistinctByPlaceNameStartingWith(String keyword);
+    List<Shop> findByBrand(ShopBrand brand); // idx_shop_brand 인덱스 사용
     List<Shop> findDistinctByRoadAddressName(String roadAddressName);
+    List<Shop> findDistinctByRoadAddressNameIn(Collection<String> roadAddressNames);
+    List<Shop> findTop20ByLatitudeIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+
+    // 상점 상세 ETag 용 값을 쿼리 1번으로 조회 (상점, 칭호, 회원의 찜 엔티티를 읽지 않음)
+    @Query("select new com.idea5.four_cut_photos_map.domain.shop.dto.ShopDetailVersionDto(s.modifyDate, s.favoriteCnt," +
+            " (select count(stl) from ShopTitleLog stl where stl.shop.id = s.id)," +
+            " (select max(stl.modifyDate) from ShopTitleLog stl where stl.shop.id = s.id)," +
+            " (select count(f) from Favorite f where f.shop.id = s.id and f.member.id = :memberId))" +
+            " from Shop s where s.id = :id")
+    Optional<ShopDetailVersionDto> findDetailVersion(@Param("id") Long id, @Param("memberId") Long memberId);
 }
\ No newline at end of file
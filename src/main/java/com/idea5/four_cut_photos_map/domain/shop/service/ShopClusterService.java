@@ -0,0 +1,121 @@
+package com.idea5.four_cut_photos_map.domain.shop.service;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShopCluster;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseMarker;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopCluster;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopClusters;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopGeoIndex;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopLocation;
+import com.idea5.four_cut_photos_map.global.util.GeoUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 지도 화면 영역의 Shop 을 격자 단위로 묶는 서비스 (마커 클러스터링)
+ * - 격자 크기는 화면 폭을 grid-columns 로 나눈 값보다 크거나 같은 BASE_CELL_SIZE * 2^n 으로 정한다.
+ *   격자를 경위도 0 기준으로 정렬하므로 화면을 조금 움직여도 같은 클러스터가 유지되고,
+ *   한 단계 넓은 격자는 좁은 격자 4개를 정확히 포함한다. (계층형)
+ * - 화면이 marker-max-span-m 보다 좁고 Shop 수가 max-markers 이하이면 개별 마커로 응답한다.
+ * - Shop 좌표는 공간 인덱스(ShopGeoIndex)에서 조회하므로 DB, 카카오맵 API 를 호출하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShopClusterService {
+    private static final double BASE_CELL_SIZE = 0.0005; // 가장 좁은 격자 크기(도), 약 50m
+
+    private final ShopGeoIndex shopGeoIndex;
+
+    @Value("${shop.cluster.grid-columns:8}")
+    private int gridColumns; // 화면 가로(또는 세로 중 긴 쪽)를 나눌 격자 수
+
+    @Value("${shop.cluster.marker-max-span-m:3000}")
+    private double markerMaxSpan; // 화면의 긴 변이 이 거리(m) 이하이면 개별 마커로 응답
+
+    @Value("${shop.cluster.max-markers:300}")
+    private int maxMarkers; // 개별 마커로 응답할 최대 Shop 수, 넘으면 화면이 좁아도 클러스터로 응답
+
+    public ResponseShopClusters cluster(RequestShopCluster request) {
+        List<ShopLocation> shops = shopGeoIndex.findInBounds(request.getBrand(),
+                request.getMinLongitude(), request.getMinLatitude(), request.getMaxLongitude(), request.getMaxLatitude());
+
+        // 1. 가까이 확대한 화면 -> 개별 마커
+        if (spanMeters(request) <= markerMaxSpan && shops.size() <= maxMarkers) {
+            List<ResponseMarker> markers = new ArrayList<>(shops.size());
+            for (ShopLocation shop : shops) {
+                markers.add(ResponseMarker.from(shop));
+            }
+            return ResponseShopClusters.builder()
+                    .clustered(false)
+                    .totalCount(shops.size())
+                    .clusters(Collections.emptyList())
+                    .markers(markers)
+                    .build();
+        }
+
+        // 2. 넓은 화면 -> 격자별로 묶어서 개수와 평균 좌표만 응답
+        double cellSize = cellSize(request);
+        Map<Long, List<ShopLocation>> cells = new LinkedHashMap<>();
+        for (ShopLocation shop : shops) {
+            long key = cellKey(cellIndex(shop.getLatitude(), cellSize), cellIndex(shop.getLongitude(), cellSize));
+            cells.computeIfAbsent(key, k -> new ArrayList<>()).add(shop);
+        }
+
+        List<ResponseShopCluster> clusters = new ArrayList<>();
+        List<ResponseMarker> markers = new ArrayList<>();
+        for (List<ShopLocation> cellShops : cells.values()) {
+            if (cellShops.size() == 1) {
+                markers.add(ResponseMarker.from(cellShops.get(0)));
+                continue;
+            }
+            double longitude = 0, latitude = 0;
+            for (ShopLocation shop : cellShops) {
+                longitude += shop.getLongitude();
+                latitude += shop.getLatitude();
+            }
+            clusters.add(ResponseShopCluster.builder()
+                    .longitude(longitude / cellShops.size())
+                    .latitude(latitude / cellShops.size())
+                    .count(cellShops.size())
+                    .build());
+        }
+
+        return ResponseShopClusters.builder()
+                .clustered(true)
+                .cellSize(cellSize)
+                .totalCount(shops.size())
+                .clusters(clusters)
+                .markers(markers)
+                .build();
+    }
+
+    // 화면의 긴 변 길이(m)
+    private double spanMeters(RequestShopCluster request) {
+        double centerLatitude = (request.getMinLatitude() + request.getMaxLatitude()) / 2;
+        double width = (request.getMaxLongitude() - request.getMinLongitude()) * GeoUtil.metersPerDegreeLng(centerLatitude);
+        double height = (request.getMaxLatitude() - request.getMinLatitude()) * GeoUtil.METERS_PER_DEGREE_LAT;
+        return Math.max(width, height);
+    }
+
+    // 화면의 긴 변을 gridColumns 로 나눈 값 이상인 BASE_CELL_SIZE * 2^n
+    private double cellSize(RequestShopCluster request) {
+        double span = Math.max(request.getMaxLongitude() - request.getMinLongitude(),
+                request.getMaxLatitude() - request.getMinLatitude());
+        double target = span / Math.max(1, gridColumns);
+        double cellSize = BASE_CELL_SIZE;
+        while (cellSize < target) {
+            cellSize *= 2;
+        }
+        return cellSize;
+    }
+
+    private static long cellIndex(double degree, double cellSize) {
+        return (long) Math.floor(degree / cellSize);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,68 @@
+package com.idea5.four_cut_photos_map.domain.shop.service;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마커 조회 중 알게 된 Shop 좌표를 모아서 한 번에 저장하는 버퍼
+ * - 마커 조회(GET)에서 DB 에 바로 쓰지 않도록, 카카오맵 API 결과의 좌표를 Shop id 별로 모아 두고
+ *   주기적으로 한 트랜잭션에서 저장한다. (Shop 조회 1번 + 변경 감지)
+ * - 가득 차면 새 좌표는 버리고, 다음 마커 조회나 좌표 보정 작업(ShopLocationJob)에서 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopLocationBuffer {
+    private final ShopRepository shopRepository;
+
+    private final Map<Long, KakaoResponseDto> pending = new ConcurrentHashMap<>(); // Shop id -> 카카오맵 API 장소
+
+    @Value("${shop.geo.location-buffer-size:1000}")
+    private int maxSize;
+
+    // 좌표 저장 예약, 이미 예약된 Shop 이면 무시
+    public void offer(Long shopId, KakaoResponseDto place) {
+        if (pending.size() >= maxSize) return;
+        pending.putIfAbsent(shopId, place);
+    }
+
+    @Scheduled(initialDelayString = "${shop.geo.location-flush-interval-ms:5000}", fixedDelayString = "${shop.geo.location-flush-interval-ms:5000}")
+    @Transactional
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Long, KakaoResponseDto> batch = new HashMap<>();
+        for (Long shopId : new ArrayList<>(pending.keySet())) {
+            KakaoResponseDto place = pending.remove(shopId);
+            if (place != null) batch.put(shopId, place);
+        }
+
+        int saved = 0;
+        for (Shop shop : shopRepository.findAllById(batch.keySet())) {
+            if (shop.hasLocation()) continue; // 그 사이 좌표 보정 작업에서 저장됨
+            KakaoResponseDto place = batch.get(shop.getId());
+            try {
+                double x = Double.parseDouble(place.getX());
+                double y = Double.parseDouble(place.getY());
+                shop.updateLocation(x, y, "미등록".equals(place.getPhone()) ? null : place.getPhone());
+                saved++;
+            } catch (NumberFormatException | NullPointerException e) {
+                log.warn("Shop 좌표 저장 실패, shopId={}, x={}, y={}", shop.getId(), place.getX(), place.getY());
+            }
+        }
+        // 커밋되면 ShopChangedEvent 로 공간 인덱스에 반영
+        log.debug("Shop 좌표 일괄 저장 {}/{}건", saved, batch.size());
+    }
+}
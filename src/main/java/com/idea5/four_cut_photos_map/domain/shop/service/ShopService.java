@@ -5,24 +5,43 @@ import com.idea5.four_cut_photos_map.domain.favorite.entity.Favorite;
 import com.idea5.four_cut_photos_map.domain.favorite.service.FavoriteService;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoKeywordResponseDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
+import com.idea5.four_cut_photos_map.domain.shop.dto.ShopDetailVersionDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.ShopDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestBrandSearch;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestKeywordSearch;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShop;
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShopMarkerDelta;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.*;
 import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.entity.ShopBrand;
 import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopAddressIndex;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopGeoIndex;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopGeoIndex.NearbyShop;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopLocation;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopSearchIndex;
 import com.idea5.four_cut_photos_map.domain.shop.service.kakao.KeywordSearchKakaoApi;
+import com.idea5.four_cut_photos_map.domain.shop.service.kakao.KeywordSearchKakaoApi.BrandPage;
 import com.idea5.four_cut_photos_map.domain.shoptitle.service.ShopTitleService;
 import com.idea5.four_cut_photos_map.domain.shoptitlelog.service.ShopTitleLogService;
+import com.idea5.four_cut_photos_map.global.common.data.Brand;
 import com.idea5.four_cut_photos_map.global.error.exception.BusinessException;
+import com.idea5.four_cut_photos_map.global.util.DistanceFormatter;
+import com.idea5.four_cut_photos_map.global.util.ETags;
+import com.idea5.four_cut_photos_map.global.util.GeoUtil;
 import com.idea5.four_cut_photos_map.security.jwt.dto.MemberContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientException;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.idea5.four_cut_photos_map.global.error.ErrorCode.SHOP_NOT_FOUND;
 
@@ -30,13 +49,41 @@ import static com.idea5.four_cut_photos_map.global.error.ErrorCode.SHOP_NOT_FOUN
 @RequiredArgsConstructor
 @Slf4j
 public class ShopService {
+    private static final int MARKER_RADIUS = 2000; // 마커 조회 반경(m)
+    private static final int BRAND_PAGE_SIZE = 15; // 브랜드 검색 페이지 크기
+    private static final int BRAND_MAX_PAGE = 3; // 브랜드 검색 최대 페이지
+    private static final int KEYWORD_PAGE_SIZE = 15; // 키워드 검색 결과 수 (카카오맵 API 한 페이지)
+
     private final ShopRepository shopRepository;
     private final KeywordSearchKakaoApi keywordSearchKakaoApi;
+    private final ShopAddressIndex shopAddressIndex;
+    private final ShopGeoIndex shopGeoIndex;
+    private final ShopSearchIndex shopSearchIndex;
+    private final ShopLocationBuffer shopLocationBuffer;
 
     private final ShopTitleLogService shopTitleLogService;
 
+    @Value("${shop.marker.timeout-ms:3000}")
+    private long markerTimeoutMs; // 브랜드별 마커 조회 전체 제한 시간(ms)
+
+    @Value("${shop.brand.timeout-ms:3000}")
+    private long brandTimeoutMs; // 브랜드 검색 2페이지 이후 동시 조회 제한 시간(ms)
+
+    @Value("${shop.geo.kakao-enrichment:true}")
+    private boolean kakaoEnrichment; // 좌표가 부족한 브랜드는 카카오맵 API 로 조회하면서 좌표 보정
+
+    @Value("${shop.search.local-keyword:true}")
+    private boolean localKeywordSearch; // DB 상점명/주소로 찾을 수 있는 키워드는 카카오맵 API 를 호출하지 않음
+
+    @Value("${shop.geo.min-located-ratio:1.0}")
+    private double minLocatedRatio; // 브랜드 Shop 중 좌표 보유 비율이 이 값 이상이면 공간 인덱스로만 조회
+
     public List<ShopDto> findByBrand(String brandName){
-        List<Shop> shops = shopRepository.findDistinctByPlaceNameStartingWith(brandName);
+        // 정해진 브랜드는 brand 컬럼(인덱스)으로 조회, 그 밖의 검색어는 상점명 앞부분으로 조회
+        ShopBrand brand = ShopBrand.fromBrandName(brandName);
+        List<Shop> shops = brand != null
+                ? shopRepository.findByBrand(brand)
+                : shopRepository.findDistinctByPlaceNameStartingWith(brandName);
         List<ShopDto> shopDtos = new ArrayList<>();
         for (Shop shop : shops)
             shopDtos.add(ShopDto.of(shop));
@@ -47,9 +94,12 @@ public class ShopService {
     public List<ResponseShop> findShops(List<KakaoKeywordResponseDto> apiShops) {
         List<ResponseShop> responseShops = new ArrayList<>();
 
+        // 카카오 맵 API 결과의 도로명주소로 DB Shop 한 번에 조회 (IN 쿼리 1회)
+        Map<String, List<Shop>> dbShopsByAddress = findShopsByRoadAddressNames(apiShops);
+
         // 카카오 맵 API 데이터와 DB Shop 비교
         for (KakaoKeywordResponseDto apiShop: apiShops) {
-            List<Shop> dbShops = shopRepository.findDistinctByRoadAddressName(apiShop.getRoadAddressName());
+            List<Shop> dbShops = dbShopsByAddress.getOrDefault(apiShop.getRoadAddressName(), Collections.emptyList());
 
             if(dbShops.isEmpty()) continue;
 
@@ -66,9 +116,33 @@ public class ShopService {
         }
         if(responseShops.isEmpty()) {throw new BusinessException(SHOP_NOT_FOUND);}
 
+        // 상점이 칭호를 보유했으면 추가 (쿼리 1번)
+        List<Long> shopIds = new ArrayList<>();
+        for (ResponseShop responseShop : responseShops) shopIds.add(responseShop.getId());
+        Map<Long, List<String>> shopTitles = shopTitleLogService.getShopTitlesByShopIds(shopIds);
+        for (ResponseShop responseShop : responseShops) {
+            responseShop.setShopTitles(shopTitles.getOrDefault(responseShop.getId(), new ArrayList<>()));
+        }
+
         return responseShops;
     }
 
+    // 도로명주소 -> 해당 주소의 DB Shop 리스트
+    private Map<String, List<Shop>> findShopsByRoadAddressNames(List<KakaoKeywordResponseDto> apiShops) {
+        Set<String> roadAddressNames = new HashSet<>();
+        for (KakaoKeywordResponseDto apiShop : apiShops) {
+            if (apiShop.getRoadAddressName() != null && !apiShop.getRoadAddressName().isEmpty())
+                roadAddressNames.add(apiShop.getRoadAddressName());
+        }
+        if (roadAddressNames.isEmpty()) return Collections.emptyMap();
+
+        Map<String, List<Shop>> dbShopsByAddress = new HashMap<>();
+        for (Shop shop : shopRepository.findDistinctByRoadAddressNameIn(roadAddressNames)) {
+            dbShopsByAddress.computeIfAbsent(shop.getRoadAddressName(), k -> new ArrayList<>()).add(shop);
+        }
+        return dbShopsByAddress;
+    }
+
     public ResponseShopDetail findShopById(Long id, String distance) {
         Shop shop = shopRepository.findById(id).orElseThrow(() -> new BusinessException(SHOP_NOT_FOUND));
         ResponseShopDetail shopDto = ResponseShopDetail.of(shop, distance);
@@ -76,41 +150,352 @@ public class ShopService {
 
     }
 
+    /**
+     * 상점 상세 ETag (상세 응답을 만들지 않고 쿼리 1번으로 계산)
+     * - 상점 정보, 찜 수, 칭호, 회원의 찜 여부, 요청한 거리 중 하나라도 바뀌면 달라진다.
+     * @param memberId 로그인하지 않았으면 null
+     */
+    public String getShopDetailETag(Long id, String distance, Long memberId) {
+        ShopDetailVersionDto version = shopRepository.findDetailVersion(id, memberId)
+                .orElseThrow(() -> new BusinessException(SHOP_NOT_FOUND));
+        return ETags.of(id, version.getModifyDate(), version.getFavoriteCnt(), version.getTitleCount(),
+                version.getTitleModifyDate(), version.getFavoriteCount(), memberId, distance);
+    }
+
+    // 마커 응답 ETag, 응답에 포함되는 값으로 계산 (JSON 직렬화 없이)
+    public String getMarkersETag(Map<String, List<ResponseShopMarker>> maps) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, List<ResponseShopMarker>> entry : maps.entrySet()) {
+            sb.append(entry.getKey()).append('[');
+            for (ResponseShopMarker marker : entry.getValue()) {
+                sb.append(marker.getId()).append('|')
+                        .append(marker.getPlaceName()).append('|')
+                        .append(marker.getRoadAddressName()).append('|')
+                        .append(marker.getX()).append('|')
+                        .append(marker.getY()).append('|')
+                        .append(marker.getPhone()).append('|')
+                        .append(marker.getDistance()).append(';');
+            }
+            sb.append(']');
+        }
+        return ETags.of(sb);
+    }
+
     public Shop findById(Long id) {
         return shopRepository.findById(id).orElseThrow(() -> new BusinessException(SHOP_NOT_FOUND));
     }
 
     public List<KakaoKeywordResponseDto> searchByKeyword(RequestKeywordSearch requestKeywordSearch) throws JsonProcessingException {
+        // DB 에 있는 상점명/주소로 찾을 수 있으면 카카오맵 API 를 호출하지 않음
+        if (localKeywordSearch) {
+            List<KakaoKeywordResponseDto> localShops = searchLocalKeyword(requestKeywordSearch);
+            if (!localShops.isEmpty()) return localShops;
+        }
         return keywordSearchKakaoApi.searchByKeyword(requestKeywordSearch);
     }
 
+    // 검색 인덱스로 키워드 검색 (같은 순위면 사용자와 가까운 순), 좌표가 없는 Shop 이 있으면 카카오맵 API 결과를 사용하도록 빈 리스트 반환
+    private List<KakaoKeywordResponseDto> searchLocalKeyword(RequestKeywordSearch requestKeywordSearch) {
+        List<ShopLocation> shops = shopSearchIndex.search(requestKeywordSearch.getKeyword(), KEYWORD_PAGE_SIZE,
+                requestKeywordSearch.getLongitude(), requestKeywordSearch.getLatitude());
+        List<KakaoKeywordResponseDto> resultList = new ArrayList<>(shops.size());
+        for (ShopLocation shop : shops) {
+            if (!shop.hasLocation()) return Collections.emptyList();
+
+            long distance = Math.round(GeoUtil.distance(requestKeywordSearch.getLongitude(), requestKeywordSearch.getLatitude(),
+                    shop.getLongitude(), shop.getLatitude()));
+            resultList.add(KakaoKeywordResponseDto.builder()
+                    .placeName(shop.getPlaceName())
+                    .roadAddressName(shop.getRoadAddressName())
+                    .longitude(String.valueOf(shop.getLongitude()))
+                    .latitude(String.valueOf(shop.getLatitude()))
+                    .distance(DistanceFormatter.format(distance))
+                    .build());
+        }
+        return resultList;
+    }
+
+    // 상점명/주소 자동완성 (초성 검색 가능), 카카오맵 API 를 호출하지 않음
+    public List<ResponseShopAutocomplete> autocomplete(String keyword, int limit) {
+        List<ResponseShopAutocomplete> result = new ArrayList<>();
+        for (ShopLocation shop : shopSearchIndex.search(keyword, limit)) {
+            result.add(ResponseShopAutocomplete.from(shop));
+        }
+        return result;
+    }
+
     public List<ResponseShopMarker> searchMarkers(RequestShop shop, String brandName) {
-        List<KakaoResponseDto> kakaoShops = keywordSearchKakaoApi.searchMarkers(shop, brandName);
-        List<ShopDto> dbShops = findByBrand(brandName);
+        List<ResponseShopMarker> markers;
+        if (isLocallyResolvable(brandName)) {
+            markers = findLocalMarkers(shop, brandName);
+        } else {
+            try {
+                markers = matchMarkers(keywordSearchKakaoApi.searchMarkers(shop, brandName), brandName);
+            } catch (BusinessException | WebClientException e) {
+                // 카카오맵 API 장애 -> DB 에 저장된 좌표로만 응답
+                log.warn("마커 조회 실패, DB 데이터로 응답, brand={}, message={}", brandName, e.getMessage());
+                markers = findLocalMarkers(shop, brandName);
+            }
+        }
+        setShopTitles(markers);
+        return markers;
+    }
+
+    /**
+     * 모든 브랜드의 마커를 동시에 조회한다.
+     * 카카오맵 API 는 논블로킹으로 동시에 호출하고, 제한 시간 안에 끝나지 않거나 실패한 브랜드는 DB 에 저장된 좌표로만 응답한다.
+     * DB 조회와 매칭은 요청 스레드에서 수행한다. (트랜잭션, 영속성 컨텍스트를 요청 스레드와 공유하기 위함)
+     */
+    public Map<String, List<ResponseShopMarker>> searchMarkersByBrands(RequestShop shop) {
+        return searchMarkersByBrands(shop, false);
+    }
+
+    // refresh 이면 카카오맵 API 결과를 캐시에서 읽지 않고 새로 받아 캐시 갱신 (셀별 hit/miss 집계 제외)
+    private Map<String, List<ResponseShopMarker>> searchMarkersByBrands(RequestShop shop, boolean refresh) {
+        Map<String, List<ResponseShopMarker>> maps = collectMarkers(shop, refresh);
+
+        List<ResponseShopMarker> markers = new ArrayList<>();
+        for (List<ResponseShopMarker> brandMarkers : maps.values()) markers.addAll(brandMarkers);
+        setShopTitles(markers);
+        return maps;
+    }
+
+    /**
+     * 좌표 주변 마커를 실제 요청과 같은 경로로 미리 조회한다. (핫스팟 셀 미리 적재용)
+     * - 공간 인덱스로 조회할 수 없는 브랜드는 캐시 만료 전에 카카오맵 API 결과를 새로 받아 캐시를 갱신한다.
+     * - 주소/공간 인덱스 적재, 좌표 보정, 칭호 조회까지 실제 요청과 같이 수행한다.
+     * - 카카오 검색 캐시를 조회하지 않고 갱신만 하므로 셀별 hit/miss 집계에는 실제 요청만 남는다.
+     * @return 조회된 마커 수
+     */
+    public int prewarmMarkers(RequestShop shop) {
+        int count = 0;
+        for (List<ResponseShopMarker> markers : searchMarkersByBrands(shop, true).values()) count += markers.size();
+        return count;
+    }
+
+    /**
+     * 이전 응답과 비교해서 바뀐 마커만 조회한다. (지도를 조금 움직일 때마다 전체 마커를 다시 받지 않기 위함)
+     * - knownIds : 클라이언트가 가진 마커 id, 이 중 반경을 벗어난 id 를 removed 로 응답
+     * - 이전 중심 좌표 : knownIds 대신 보낼 수 있음, 이전 반경 안의 Shop 을 공간 인덱스로 다시 계산
+     *   카카오맵 API 로 조회하는 브랜드는 이전 결과를 알 수 없으므로 현재 마커를 모두 added 로 응답한다.
+     * 클라이언트는 added 를 id 기준으로 추가(이미 있으면 교체)하고, removed 를 삭제한다.
+     * 칭호는 added 마커만 조회한다.
+     */
+    public ResponseShopMarkerDelta searchMarkerDeltasByBrands(RequestShopMarkerDelta request) {
+        Map<String, List<ResponseShopMarker>> current = collectMarkers(request.toRequestShop());
+
+        Set<Long> currentIds = new HashSet<>();
+        for (List<ResponseShopMarker> brandMarkers : current.values()) {
+            for (ResponseShopMarker marker : brandMarkers) currentIds.add(marker.getId());
+        }
+        Set<Long> knownIds = findKnownMarkerIds(request);
+
+        Map<String, List<ResponseShopMarker>> added = new LinkedHashMap<>();
+        List<ResponseShopMarker> addedMarkers = new ArrayList<>();
+        for (Map.Entry<String, List<ResponseShopMarker>> entry : current.entrySet()) {
+            // 이전 중심 좌표로 계산한 id 는 공간 인덱스로 조회하는 브랜드에서만 정확함
+            boolean exact = request.getKnownIds() != null || isLocallyResolvable(entry.getKey());
+            List<ResponseShopMarker> brandAdded = new ArrayList<>();
+            for (ResponseShopMarker marker : entry.getValue()) {
+                if (!exact || !knownIds.contains(marker.getId())) brandAdded.add(marker);
+            }
+            added.put(entry.getKey(), brandAdded);
+            addedMarkers.addAll(brandAdded);
+        }
+        setShopTitles(addedMarkers);
+
+        List<Long> removed = new ArrayList<>();
+        for (Long id : knownIds) {
+            if (!currentIds.contains(id)) removed.add(id);
+        }
+        return new ResponseShopMarkerDelta(added, removed);
+    }
+
+    // 클라이언트가 이미 가진 마커 id
+    private Set<Long> findKnownMarkerIds(RequestShopMarkerDelta request) {
+        if (request.getKnownIds() != null) {
+            return new HashSet<>(request.getKnownIds());
+        }
+        Set<Long> knownIds = new HashSet<>();
+        if (!request.hasPrevLocation()) return knownIds;
+
+        for (String brandName : Brand.Names) {
+            for (NearbyShop nearbyShop : shopGeoIndex.findNearby(brandName, request.getPrevLongitude(), request.getPrevLatitude(), MARKER_RADIUS)) {
+                knownIds.add(nearbyShop.getShop().getId());
+            }
+        }
+        return knownIds;
+    }
+
+    // 브랜드별 마커 조회 (칭호 제외), refresh 이면 카카오맵 API 결과로 캐시 갱신
+    private Map<String, List<ResponseShopMarker>> collectMarkers(RequestShop shop, boolean refresh) {
+        // 1. 공간 인덱스로 조회할 수 없는 브랜드만 카카오맵 API 호출 동시 시작
+        Map<String, Future<List<KakaoResponseDto>>> futures = new HashMap<>();
+        for (String brandName : Brand.Names) {
+            if (!isLocallyResolvable(brandName)) {
+                futures.put(brandName, refresh
+                        ? keywordSearchKakaoApi.refreshMarkersAsync(shop, brandName)
+                        : keywordSearchKakaoApi.searchMarkersAsync(shop, brandName));
+            }
+        }
+
+        // 2. 전체 제한 시간 안에서 브랜드별 결과 수집
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(markerTimeoutMs);
+        Map<String, List<ResponseShopMarker>> maps = new LinkedHashMap<>();
+        for (String brandName : Brand.Names) {
+            Future<List<KakaoResponseDto>> future = futures.get(brandName);
+            if (future == null) {
+                maps.put(brandName, findLocalMarkers(shop, brandName));
+                continue;
+            }
+            List<KakaoResponseDto> kakaoShops = awaitKakaoShops(brandName, future, deadline);
+            maps.put(brandName, kakaoShops == null ? findLocalMarkers(shop, brandName) : matchMarkers(kakaoShops, brandName));
+        }
+        return maps;
+    }
+
+    // 카카오맵 API 결과 대기, 시간 초과나 실패로 결과가 없으면 null
+    private List<KakaoResponseDto> awaitKakaoShops(String brandName, Future<List<KakaoResponseDto>> future, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 제한 시간 초과 -> 결과를 기다리지 않고 DB 데이터로 응답
+            // (취소는 이 호출의 future 만 정리, api 요청은 kakao.api.timeout-ms 가 지나면 끊김)
+            future.cancel(true);
+            log.warn("마커 조회 시간 초과, brand={}, timeout={}ms", brandName, markerTimeoutMs);
+        } catch (ExecutionException e) {
+            log.error("마커 조회 실패, brand={}, message={}", brandName, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private List<ResponseShopMarker> matchMarkers(List<KakaoResponseDto> kakaoShops, String brandName) {
         List<ResponseShopMarker> resultShops = new ArrayList<>();
 
+        // 카카오 맵 api 결과의 도로명주소로 DB Shop 조회 (브랜드별 주소 인덱스)
         for (KakaoResponseDto kakaoShop : kakaoShops) {
-            for (ShopDto dbShop : dbShops) {
-                if (kakaoShop.getRoadAddressName().equals(dbShop.getRoadAddressName())) {
-                    ResponseShopMarker responseShopMarker = ResponseShopMarker.of(kakaoShop);
-                    responseShopMarker.setId(dbShop.getId());
-                    // 상점이 칭호를 보유했으면 추가
-                    if(shopTitleLogService.existShopTitles(dbShop.getId())){
-                        responseShopMarker.setShopTitles(shopTitleLogService.getShopTitles(dbShop.getId()));
-                    }
-                    resultShops.add(responseShopMarker);
-                    break;
-                }
+            ShopDto dbShop = shopAddressIndex.find(brandName, kakaoShop.getRoadAddressName());
+            if (dbShop == null) continue;
+
+            ResponseShopMarker responseShopMarker = ResponseShopMarker.of(kakaoShop);
+            responseShopMarker.setId(dbShop.getId());
+            resultShops.add(responseShopMarker);
+
+            // 좌표가 없는 Shop 은 카카오맵 API 결과로 좌표 보정 (버퍼에 모아서 일괄 저장, 조회 중에 DB 에 쓰지 않음)
+            if (!shopGeoIndex.hasLocation(dbShop.getId())) {
+                shopLocationBuffer.offer(dbShop.getId(), kakaoShop);
             }
         }
         return resultShops;
     }
 
+    // 공간 인덱스로 반경 2km 이내 Shop 조회 (카카오맵 API 호출 없음)
+    private List<ResponseShopMarker> findLocalMarkers(RequestShop shop, String brandName) {
+        List<ResponseShopMarker> resultShops = new ArrayList<>();
+        for (NearbyShop nearbyShop : shopGeoIndex.findNearby(brandName, shop.getLongitude(), shop.getLatitude(), MARKER_RADIUS)) {
+            String distance = DistanceFormatter.format(nearbyShop.getDistance());
+            resultShops.add(ResponseShopMarker.from(nearbyShop.getShop(), distance));
+        }
+        return resultShops;
+    }
+
+    // 상점이 칭호를 보유했으면 추가 (마커 전체의 칭호를 쿼리 1번으로 조회)
+    private void setShopTitles(List<ResponseShopMarker> markers) {
+        if (markers.isEmpty()) return;
+
+        List<Long> shopIds = new ArrayList<>();
+        for (ResponseShopMarker marker : markers) shopIds.add(marker.getId());
+
+        Map<Long, List<String>> shopTitles = shopTitleLogService.getShopTitlesByShopIds(shopIds);
+        for (ResponseShopMarker marker : markers) {
+            List<String> titles = shopTitles.get(marker.getId());
+            if (titles != null) marker.setShopTitles(titles);
+        }
+    }
+
+    // 카카오맵 API 호출 없이 공간 인덱스만으로 조회할 수 있는 브랜드인지 확인
+    private boolean isLocallyResolvable(String brandName) {
+        return !kakaoEnrichment || shopGeoIndex.locatedRatio(brandName) >= minLocatedRatio;
+    }
+
+    // Shop 좌표, 전화번호 저장 -> ShopChangedEvent 로 공간 인덱스에 반영
+    public void saveLocation(Long shopId, String longitude, String latitude, String phone) {
+        try {
+            double x = Double.parseDouble(longitude);
+            double y = Double.parseDouble(latitude);
+            shopRepository.findById(shopId).ifPresent(dbShop -> {
+                dbShop.updateLocation(x, y, "미등록".equals(phone) ? null : phone);
+                shopRepository.save(dbShop);
+            });
+        } catch (NumberFormatException | NullPointerException e) {
+            log.warn("Shop 좌표 저장 실패, shopId={}, x={}, y={}", shopId, longitude, latitude);
+        }
+    }
+
+    // DB 에 해당 브랜드의 Shop 이 존재하는지 확인
+    public boolean existsBrand(String brandName) {
+        return shopAddressIndex.containsBrand(brandName);
+    }
+
+    // 카카오 맵 api 로 부터 받아온 Shop 리스트 중 DB 에 저장된 Shop 만 응답값으로 변환
+    public List<ResponseShopBrand> matchBrandShops(List<KakaoResponseDto> kakaoShops, String brandName) {
+        List<ResponseShopBrand> resultShops = new ArrayList<>();
+        for (KakaoResponseDto apiShop : kakaoShops) {
+            if (shopAddressIndex.find(brandName, apiShop.getRoadAddressName()) != null) {
+                resultShops.add(ResponseShopBrand.of(apiShop));
+            }
+        }
+        return resultShops;
+    }
+
+    /**
+     * 브랜드 검색 (최대 3페이지)
+     * 1페이지 응답의 meta 로 남은 페이지 수를 확인하고, 마지막 페이지면 바로 응답한다.
+     * 남은 페이지는 논블로킹으로 동시에 조회하고, 제한 시간 안에 끝나지 않은 페이지는 제외한다.
+     */
     public List<KakaoResponseDto> searchBrand(RequestBrandSearch brandSearch) {
-        List<KakaoResponseDto> list = new ArrayList<>();
-        for (int i = 1; i <= 3; i++) {
-            list.addAll(keywordSearchKakaoApi.searchByBrand(brandSearch, i));
+        BrandPage firstPage = keywordSearchKakaoApi.searchByBrand(brandSearch, 1);
+        List<KakaoResponseDto> list = new ArrayList<>(firstPage.getShops());
+        if (firstPage.isEnd()) return list;
+
+        // 노출 가능한 문서 수로 마지막 페이지 계산 (pageable_count 는 최대 45 = 15 * 3)
+        int lastPage = Math.min(BRAND_MAX_PAGE, (firstPage.getPageableCount() + BRAND_PAGE_SIZE - 1) / BRAND_PAGE_SIZE);
+        List<Future<BrandPage>> futures = new ArrayList<>();
+        for (int page = 2; page <= lastPage; page++) {
+            futures.add(keywordSearchKakaoApi.searchByBrandAsync(brandSearch, page));
+        }
+
+        // 페이지 순서대로 합쳐서 거리순 유지
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(brandTimeoutMs);
+        for (int i = 0; i < futures.size(); i++) {
+            BrandPage page = awaitBrandPage(brandSearch.getBrand(), i + 2, futures.get(i), deadline);
+            list.addAll(page.getShops());
+            if (page.isEnd()) {
+                // 이후 페이지는 비어있으므로 결과를 기다리지 않음
+                for (int j = i + 1; j < futures.size(); j++) futures.get(j).cancel(true);
+                break;
+            }
         }
         return list;
     }
+
+    private BrandPage awaitBrandPage(String brandName, int page, Future<BrandPage> future, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("브랜드 검색 시간 초과, brand={}, page={}, timeout={}ms", brandName, page, brandTimeoutMs);
+        } catch (ExecutionException e) {
+            log.error("브랜드 검색 실패, brand={}, page={}, message={}", brandName, page, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return new BrandPage(Collections.emptyList(), false, 0);
+    }
 }
\ No newline at end of file
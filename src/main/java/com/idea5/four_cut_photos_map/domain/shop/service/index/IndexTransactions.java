@@ -0,0 +1,21 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인메모리 Shop 인덱스가 공유하는 트랜잭션 규칙
+ * - 변경분은 커밋된 뒤에만 인덱스에 반영한다. (ShopChangedEvent, AFTER_COMMIT)
+ * - 쓰기 트랜잭션 안에서 DB 를 읽으면 커밋되지 않은 데이터가 보일 수 있으므로,
+ *   그 결과는 해당 호출에서만 사용하고 다른 요청과 공유하는 인덱스에는 저장하지 않는다.
+ */
+final class IndexTransactions {
+
+    private IndexTransactions() {
+    }
+
+    // 지금 DB 에서 읽은 결과를 공유 인덱스에 저장해도 되는지 (트랜잭션 밖이거나 읽기 전용 트랜잭션)
+    static boolean canShareLoad() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,140 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 전체 Shop 을 한 번에 적재하는 인메모리 인덱스의 공유 상태 (ShopGeoIndex, ShopSearchIndex)
+ * - 적재 전에 동시에 들어온 조회는 적재 하나를 함께 기다린다. (조회마다 전체 Shop 을 읽지 않음)
+ * - DB 조회, 인덱스 생성은 lock 밖에서 하고 완성된 인덱스만 lock 안에서 교체한다. (적재 중에도 변경 반영을 막지 않음)
+ * - 적재 중에 반영된 변경은 모아 두었다가 적재가 끝나면 새 인덱스에 순서대로 다시 반영한다.
+ *   (적재 결과를 버리지 않으므로 변경이 잦아도 인덱스가 적재되지 않은 상태로 남지 않음)
+ * - 쓰기 트랜잭션 안에서 적재한 인덱스는 공유하지 않고 이번 조회에서만 사용한다. (IndexTransactions)
+ * @param <T> 인덱스 타입, lock 안에서만 읽고 수정
+ */
+final class SharedIndex<T> {
+    private final Supplier<T> loader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private T index; // 공유 인덱스, null 이면 적재 전
+    private CompletableFuture<T> loading; // 진행 중인 적재, 없으면 null
+    private List<Consumer<T>> pendingChanges; // 적재 중에 반영된 변경
+
+    SharedIndex(Supplier<T> loader) {
+        this.loader = loader;
+    }
+
+    // 인덱스를 읽어서 결과 생성, 적재 전이면 DB 에서 적재
+    <R> R read(Function<T, R> reader) {
+        lock.readLock().lock();
+        try {
+            if (index != null) return reader.apply(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!IndexTransactions.canShareLoad()) {
+            return reader.apply(loader.get());
+        }
+
+        CompletableFuture<T> call;
+        boolean leader = false;
+        lock.writeLock().lock();
+        try {
+            if (index != null) return reader.apply(index);
+            if (loading == null) {
+                loading = new CompletableFuture<>();
+                pendingChanges = new ArrayList<>();
+                leader = true;
+            }
+            call = loading;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        T loaded = leader ? load(call) : await(call);
+        lock.readLock().lock();
+        try {
+            // 적재 후 무효화되었으면 적재한 인덱스를 이번 조회에서만 사용
+            return reader.apply(index != null ? index : loaded);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 변경 반영, 적재 중이면 적재가 끝난 뒤 새 인덱스에 반영
+    void apply(Consumer<T> change) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                change.accept(index);
+            } else if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            // 적재 전이면 다음 조회 시 DB 에서 읽어옴
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 인덱스 무효화, 진행 중인 적재 결과도 공유하지 않음 (다음 조회 시 다시 적재)
+    void invalidate() {
+        lock.writeLock().lock();
+        try {
+            index = null;
+            loading = null;
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private T load(CompletableFuture<T> call) {
+        T loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException | Error e) {
+            lock.writeLock().lock();
+            try {
+                if (loading == call) {
+                    loading = null;
+                    pendingChanges = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            call.completeExceptionally(e);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loading == call) {
+                for (Consumer<T> change : pendingChanges) {
+                    change.accept(loaded);
+                }
+                index = loaded;
+                loading = null;
+                pendingChanges = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        call.complete(loaded);
+        return loaded;
+    }
+
+    private T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.ShopDto;
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.entity.ShopBrand;
+import com.idea5.four_cut_photos_map.domain.shop.event.ShopChangedEvent;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 브랜드별 (정규화된 도로명주소 -> ShopDto) 인메모리 인덱스
+ * - 카카오맵 API 결과와 DB Shop 을 도로명주소로 매칭할 때 O(1) 로 조회하기 위해 사용
+ * - 브랜드 단위로 처음 조회될 때 DB 에서 읽어오고(lazy), 이후에는 커밋된 ShopChangedEvent 로 변경분만 반영한다.
+ * - 같은 브랜드, 같은 주소의 Shop 이 여러 개면 먼저 조회된 Shop 을 사용한다. (기존 중첩 반복문의 동작과 동일)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopAddressIndex {
+    private final ShopRepository shopRepository;
+
+    // brand -> (정규화된 도로명주소 -> ShopDto)
+    private final Map<String, Map<String, ShopDto>> index = new ConcurrentHashMap<>();
+    // 변경 반영 횟수, 브랜드를 적재하는 동안 변경이 반영되었으면 적재 결과를 저장하지 않음 (변경 누락 방지)
+    private final AtomicLong changes = new AtomicLong();
+
+    // 해당 브랜드에서 도로명주소가 일치하는 Shop 조회, 없으면 null
+    public ShopDto find(String brandName, String roadAddressName) {
+        if (roadAddressName == null) return null;
+        return partition(brandName).get(normalize(roadAddressName));
+    }
+
+    // 해당 브랜드의 Shop 이 하나라도 있는지 확인
+    public boolean containsBrand(String brandName) {
+        return !partition(brandName).isEmpty();
+    }
+
+    // 전체 인덱스 무효화 (다음 조회 시 브랜드별로 다시 적재), DB 를 직접 수정하는 경우를 대비해 주기적으로 실행
+    @Scheduled(fixedDelayString = "${shop.index.refresh-interval-ms:600000}")
+    public void refresh() {
+        changes.incrementAndGet();
+        index.clear();
+    }
+
+    // 커밋된 변경만 반영 (롤백된 Shop 이 다른 요청에 보이지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShopChanged(ShopChangedEvent event) {
+        changes.incrementAndGet();
+        Shop shop = event.getShop();
+
+        for (String brandName : index.keySet()) {
+            Map<String, ShopDto> addresses = index.get(brandName);
+            if (addresses == null) continue;
+
+            boolean belongs = event.getType() == ShopChangedEvent.Type.SAVED && belongsTo(shop, brandName);
+            String key = normalize(shop.getRoadAddressName());
+            ShopDto current = key == null ? null : addresses.get(key);
+
+            // 주소, 브랜드 변경이 없는 수정 (ex. 찜 수 변경) -> 값만 교체
+            if (belongs && current != null && Objects.equals(current.getId(), shop.getId())) {
+                addresses.put(key, ShopDto.of(shop));
+                continue;
+            }
+
+            if (containsId(addresses, shop.getId())) {
+                // 주소나 상점명이 바뀌었거나 삭제된 경우, 같은 주소의 다른 Shop 이 있을 수 있으므로 브랜드 전체를 다시 적재
+                index.remove(brandName);
+            } else if (belongs && key != null) {
+                addresses.putIfAbsent(key, ShopDto.of(shop));
+            }
+        }
+    }
+
+    private Map<String, ShopDto> partition(String brandName) {
+        // 정해진 브랜드만 인덱스에 보관 (임의의 검색어로 인덱스가 커지는 것을 방지)
+        if (!isIndexedBrand(brandName)) {
+            return load(brandName);
+        }
+        Map<String, ShopDto> addresses = index.get(brandName);
+        if (addresses != null) return addresses;
+
+        long loadedChanges = changes.get();
+        addresses = load(brandName);
+        // 쓰기 트랜잭션 안에서 읽은 결과, 적재 중에 변경이 반영된 결과는 이번 조회에서만 사용
+        if (IndexTransactions.canShareLoad() && changes.get() == loadedChanges) {
+            Map<String, ShopDto> current = index.putIfAbsent(brandName, addresses);
+            if (current != null) return current;
+        }
+        return addresses;
+    }
+
+    private Map<String, ShopDto> load(String brandName) {
+        ShopBrand brand = ShopBrand.fromBrandName(brandName);
+        List<Shop> shops = brand != null
+                ? shopRepository.findByBrand(brand) // brand 컬럼(인덱스)으로 조회
+                : shopRepository.findDistinctByPlaceNameStartingWith(brandName);
+        Map<String, ShopDto> addresses = new ConcurrentHashMap<>(Math.max(16, shops.size() * 2));
+        for (Shop shop : shops) {
+            String key = normalize(shop.getRoadAddressName());
+            if (key != null) {
+                addresses.putIfAbsent(key, ShopDto.of(shop));
+            }
+        }
+        log.debug("shop address index loaded, brand={}, size={}", brandName, addresses.size());
+        return addresses;
+    }
+
+    private boolean containsId(Map<String, ShopDto> addresses, Long id) {
+        for (ShopDto shopDto : addresses.values()) {
+            if (Objects.equals(shopDto.getId(), id)) return true;
+        }
+        return false;
+    }
+
+    private boolean belongsTo(Shop shop, String brandName) {
+        return shop.getPlaceName() != null && shop.getPlaceName().startsWith(brandName);
+    }
+
+    private boolean isIndexedBrand(String brandName) {
+        return ShopBrand.fromBrandName(brandName) != null;
+    }
+
+    /**
+     * 도로명주소 정규화
+     * - 유니코드 NFC 정규화 (자모 분리된 한글 통일)
+     * - 앞뒤 공백 제거, 연속된 공백은 하나로
+     */
+    public static String normalize(String roadAddressName) {
+        if (roadAddressName == null) return null;
+        String normalized = Normalizer.normalize(roadAddressName, Normalizer.Form.NFC).trim();
+        return normalized.replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,217 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.event.ShopChangedEvent;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.global.util.GeoUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Shop 좌표 기반 공간 인덱스 (위경도 격자)
+ * - 위경도를 CELL_SIZE 단위 격자로 나누고, 브랜드별로 격자 -> Shop 리스트를 보관한다.
+ * - "브랜드 B 의 Shop 중 (x, y) 에서 R 미터 이내, 가까운 순" 조회를 반경에 걸치는 격자만 확인해서 처리한다.
+ * - 지도 화면(사각 영역) 안의 Shop 조회도 영역에 걸치는 격자만 확인한다. (마커 클러스터링)
+ * - 처음 조회될 때 전체 Shop 을 적재하고, 이후에는 커밋된 ShopChangedEvent 로 변경분만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopGeoIndex {
+    private static final double CELL_SIZE = 0.01; // 격자 크기(도), 위도 기준 약 1.1km
+
+    private final ShopRepository shopRepository;
+
+    private final SharedIndex<Grid> grid = new SharedIndex<>(this::load); // 적재, 변경 반영, lock 관리
+
+    /**
+     * 브랜드의 Shop 중 중심 좌표에서 반경(m) 이내에 있는 Shop 을 가까운 순으로 조회
+     * @param brandName 브랜드명
+     * @param longitude 중심 경도
+     * @param latitude 중심 위도
+     * @param radius 반경(m)
+     */
+    public List<NearbyShop> findNearby(String brandName, double longitude, double latitude, int radius) {
+        List<NearbyShop> result = grid.read(current -> {
+            List<NearbyShop> nearby = new ArrayList<>();
+            Map<Long, List<ShopLocation>> brandCells = current.cells.get(brandName);
+            if (brandCells == null) return nearby;
+
+            double dLat = radius / GeoUtil.METERS_PER_DEGREE_LAT;
+            double dLng = radius / GeoUtil.metersPerDegreeLng(latitude);
+            int minRow = cellIndex(latitude - dLat), maxRow = cellIndex(latitude + dLat);
+            int minCol = cellIndex(longitude - dLng), maxCol = cellIndex(longitude + dLng);
+
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    List<ShopLocation> cellShops = brandCells.get(cellKey(row, col));
+                    if (cellShops == null) continue;
+
+                    for (ShopLocation shop : cellShops) {
+                        double distance = GeoUtil.distance(longitude, latitude, shop.getLongitude(), shop.getLatitude());
+                        if (distance <= radius) {
+                            nearby.add(new NearbyShop(shop, (int) Math.round(distance)));
+                        }
+                    }
+                }
+            }
+            return nearby;
+        });
+
+        result.sort(Comparator.comparingInt(NearbyShop::getDistance));
+        return result;
+    }
+
+    /**
+     * 사각 영역(지도 화면) 안에 있는 Shop 조회
+     * @param brandName 브랜드명, null 이면 모든 브랜드
+     */
+    public List<ShopLocation> findInBounds(String brandName, double minLongitude, double minLatitude,
+                                           double maxLongitude, double maxLatitude) {
+        return grid.read(current -> {
+            List<ShopLocation> result = new ArrayList<>();
+            Collection<Map<Long, List<ShopLocation>>> targets;
+            if (brandName == null) {
+                targets = current.cells.values();
+            } else {
+                Map<Long, List<ShopLocation>> brandCells = current.cells.get(brandName);
+                targets = brandCells == null ? Collections.emptyList() : Collections.singletonList(brandCells);
+            }
+
+            int minRow = cellIndex(minLatitude), maxRow = cellIndex(maxLatitude);
+            int minCol = cellIndex(minLongitude), maxCol = cellIndex(maxLongitude);
+            long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+            for (Map<Long, List<ShopLocation>> brandCells : targets) {
+                if (cellCount > brandCells.size()) {
+                    // 영역이 넓으면 격자를 모두 확인하는 것보다 Shop 이 있는 격자만 확인하는 편이 빠름
+                    for (List<ShopLocation> cellShops : brandCells.values()) {
+                        addInBounds(cellShops, minLongitude, minLatitude, maxLongitude, maxLatitude, result);
+                    }
+                    continue;
+                }
+                for (int row = minRow; row <= maxRow; row++) {
+                    for (int col = minCol; col <= maxCol; col++) {
+                        List<ShopLocation> cellShops = brandCells.get(cellKey(row, col));
+                        if (cellShops != null) {
+                            addInBounds(cellShops, minLongitude, minLatitude, maxLongitude, maxLatitude, result);
+                        }
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    private void addInBounds(List<ShopLocation> shops, double minLongitude, double minLatitude,
+                             double maxLongitude, double maxLatitude, List<ShopLocation> result) {
+        for (ShopLocation shop : shops) {
+            if (shop.getLongitude() >= minLongitude && shop.getLongitude() <= maxLongitude
+                    && shop.getLatitude() >= minLatitude && shop.getLatitude() <= maxLatitude) {
+                result.add(shop);
+            }
+        }
+    }
+
+    // 브랜드 Shop 중 좌표가 저장된 비율 (Shop 이 없으면 1)
+    public double locatedRatio(String brandName) {
+        return grid.read(current -> {
+            int[] counts = current.brandCounts.get(brandName);
+            if (counts == null || counts[0] == 0) return 1.0;
+            return (double) counts[1] / counts[0];
+        });
+    }
+
+    // 좌표가 저장된 Shop 인지 확인
+    public boolean hasLocation(Long shopId) {
+        return grid.read(current -> {
+            ShopLocation shop = current.shops.get(shopId);
+            return shop != null && shop.hasLocation();
+        });
+    }
+
+    // 전체 인덱스 무효화 (다음 조회 시 다시 적재), DB 를 직접 수정하는 경우를 대비해 주기적으로 실행
+    @Scheduled(fixedDelayString = "${shop.index.refresh-interval-ms:600000}")
+    public void refresh() {
+        grid.invalidate();
+    }
+
+    // 커밋된 변경만 반영 (롤백된 Shop 이 다른 요청에 보이지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShopChanged(ShopChangedEvent event) {
+        // 적재 중이면 나중에 반영되므로 이벤트 시점의 값을 복사해 둠
+        Long shopId = event.getShop().getId();
+        ShopLocation saved = event.getType() == ShopChangedEvent.Type.SAVED ? ShopLocation.of(event.getShop()) : null;
+        grid.apply(current -> {
+            current.remove(shopId);
+            if (saved != null) current.add(saved);
+        });
+    }
+
+    // 전체 Shop 으로 격자 생성
+    private Grid load() {
+        Grid loaded = new Grid();
+        for (Shop shop : shopRepository.findAll()) {
+            loaded.add(ShopLocation.of(shop));
+        }
+        log.debug("shop geo index loaded, size={}", loaded.shops.size());
+        return loaded;
+    }
+
+    private static int cellIndex(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    // 브랜드별 격자, 공유 인덱스는 SharedIndex 의 lock 안에서만 읽고 수정
+    private static class Grid {
+        private final Map<Long, ShopLocation> shops = new HashMap<>(); // id -> Shop
+        private final Map<String, Map<Long, List<ShopLocation>>> cells = new HashMap<>(); // brand -> (격자 -> 좌표가 있는 Shop)
+        private final Map<String, int[]> brandCounts = new HashMap<>(); // brand -> {전체 Shop 수, 좌표가 있는 Shop 수}
+
+        private void add(ShopLocation shop) {
+            shops.put(shop.getId(), shop);
+            if (shop.getBrand() == null) return;
+
+            int[] counts = brandCounts.computeIfAbsent(shop.getBrand(), k -> new int[2]);
+            counts[0]++;
+            if (!shop.hasLocation()) return;
+
+            counts[1]++;
+            long key = cellKey(cellIndex(shop.getLatitude()), cellIndex(shop.getLongitude()));
+            cells.computeIfAbsent(shop.getBrand(), k -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new ArrayList<>())
+                    .add(shop);
+        }
+
+        private void remove(Long shopId) {
+            ShopLocation shop = shops.remove(shopId);
+            if (shop == null || shop.getBrand() == null) return;
+
+            brandCounts.get(shop.getBrand())[0]--;
+            if (!shop.hasLocation()) return;
+
+            brandCounts.get(shop.getBrand())[1]--;
+            long key = cellKey(cellIndex(shop.getLatitude()), cellIndex(shop.getLongitude()));
+            List<ShopLocation> cellShops = cells.get(shop.getBrand()).get(key);
+            cellShops.removeIf(s -> s.getId().equals(shopId));
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class NearbyShop {
+        private final ShopLocation shop;
+        private final int distance; // 중심 좌표까지의 거리(m)
+    }
+}
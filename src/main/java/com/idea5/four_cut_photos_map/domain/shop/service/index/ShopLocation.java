@@ -0,0 +1,36 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.entity.ShopBrand;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공간 인덱스에 보관하는 Shop 스냅샷 (불변)
+ */
+@Getter
+@AllArgsConstructor
+public class ShopLocation {
+    private final Long id;
+    private final String brand; // Brand.Names 중 하나, 해당 없으면 null
+    private final String placeName;
+    private final String roadAddressName;
+    private final Double longitude; // 경도, 없으면 null
+    private final Double latitude; // 위도, 없으면 null
+    private final String phone;
+
+    public static ShopLocation of(Shop shop) {
+        return new ShopLocation(shop.getId(), brandOf(shop.getPlaceName()), shop.getPlaceName(),
+                shop.getRoadAddressName(), shop.getLongitude(), shop.getLatitude(), shop.getPhone());
+    }
+
+    public boolean hasLocation() {
+        return longitude != null && latitude != null;
+    }
+
+    // 상점명으로 브랜드 판별 (Shop.brand 와 같은 기준)
+    private static String brandOf(String placeName) {
+        ShopBrand brand = ShopBrand.fromPlaceName(placeName);
+        return brand == null ? null : brand.getBrandName();
+    }
+}
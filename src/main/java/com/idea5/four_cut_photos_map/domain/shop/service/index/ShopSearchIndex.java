@@ -0,0 +1,306 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.event.ShopChangedEvent;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.global.util.GeoUtil;
+import com.idea5.four_cut_photos_map.global.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Shop 상점명, 도로명주소 검색 인덱스 (자동완성, 키워드 검색)
+ * - 정규화(소문자, 공백 제거)한 상점명/주소를 1, 2글자 조각(n-gram)으로 나눠 조각 -> Shop id 역색인을 만든다.
+ * - 초성 검색(ㅇㅅㄴㅋ, 인생ㄴㅋ)을 위해 초성으로 바꾼 문자열의 역색인도 함께 보관한다.
+ * - 검색어는 공백 단위로 나누고, 모든 단어가 상점명 또는 주소에 포함된 Shop 을 찾는다.
+ *   가장 적은 Shop 을 가리키는 조각으로 후보를 고른 뒤, 후보만 실제로 포함하는지 확인한다.
+ * - 정렬: 상점명 접두어 > 상점명 단어 접두어 > 상점명 포함 > 주소 단어 접두어 > 주소 포함, 같으면 상점명이 짧은 순
+ *   (기준 좌표가 있으면 같은 순위 안에서 기준 좌표와 가까운 순, 좌표가 없는 Shop 은 마지막)
+ * - 처음 조회될 때 전체 Shop 을 적재하고, 이후에는 커밋된 ShopChangedEvent 로 변경분만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopSearchIndex {
+    private static final int PLACE_PREFIX = 0;
+    private static final int PLACE_WORD_PREFIX = 1;
+    private static final int PLACE_CONTAINS = 2;
+    private static final int ADDRESS_WORD_PREFIX = 3;
+    private static final int ADDRESS_CONTAINS = 4;
+    private static final int NO_MATCH = -1;
+
+    private final ShopRepository shopRepository;
+
+    private final SharedIndex<Postings> postings = new SharedIndex<>(this::load); // 적재, 변경 반영, lock 관리
+
+    /**
+     * 상점명, 도로명주소로 Shop 검색
+     * @param query 검색어, 공백으로 구분한 단어가 모두 포함된 Shop 을 찾음 (초성 가능)
+     * @param limit 최대 개수
+     * @return 검색어와 가까운 순서의 Shop 목록
+     */
+    public List<ShopLocation> search(String query, int limit) {
+        return search(query, limit, shop -> 0);
+    }
+
+    /**
+     * 상점명, 도로명주소로 Shop 검색, 같은 순위 안에서는 기준 좌표와 가까운 순 (키워드 검색)
+     * ex) "인생네컷" -> 전국 지점 중 상점명이 짧은 지점이 아니라 사용자와 가까운 지점부터
+     * @param longitude 기준 경도
+     * @param latitude 기준 위도
+     */
+    public List<ShopLocation> search(String query, int limit, double longitude, double latitude) {
+        return search(query, limit, shop -> shop.hasLocation()
+                ? GeoUtil.distance(longitude, latitude, shop.getLongitude(), shop.getLatitude())
+                : Double.MAX_VALUE);
+    }
+
+    // 검색어 순위 -> 거리 -> 상점명 길이 순
+    private List<ShopLocation> search(String query, int limit, ToDoubleFunction<ShopLocation> distance) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) return Collections.emptyList();
+
+        List<Hit> hits = postings.read(current -> {
+            List<Hit> result = new ArrayList<>();
+            for (Long id : current.candidates(tokens)) {
+                Entry entry = current.entries.get(id);
+                int score = score(entry, tokens);
+                if (score != NO_MATCH) {
+                    result.add(new Hit(entry, score, distance.applyAsDouble(entry.shop)));
+                }
+            }
+            return result;
+        });
+
+        hits.sort(Comparator.comparingInt((Hit hit) -> hit.score)
+                .thenComparingDouble(hit -> hit.distance)
+                .thenComparingInt(hit -> hit.entry.placeName.text.length())
+                .thenComparingLong(hit -> hit.entry.shop.getId()));
+
+        List<ShopLocation> result = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            result.add(hits.get(i).entry.shop);
+        }
+        return result;
+    }
+
+    // 전체 인덱스 무효화 (다음 조회 시 다시 적재), DB 를 직접 수정하는 경우를 대비해 주기적으로 실행
+    @Scheduled(fixedDelayString = "${shop.index.refresh-interval-ms:600000}")
+    public void refresh() {
+        postings.invalidate();
+    }
+
+    // 커밋된 변경만 반영 (롤백된 Shop 이 다른 요청에 보이지 않도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShopChanged(ShopChangedEvent event) {
+        // 적재 중이면 나중에 반영되므로 이벤트 시점의 값을 복사해 둠
+        Long shopId = event.getShop().getId();
+        ShopLocation saved = event.getType() == ShopChangedEvent.Type.SAVED ? ShopLocation.of(event.getShop()) : null;
+        postings.apply(current -> {
+            current.remove(shopId);
+            if (saved != null) current.add(saved);
+        });
+    }
+
+    // 전체 Shop 으로 역색인 생성
+    private Postings load() {
+        Postings loaded = new Postings();
+        for (Shop shop : shopRepository.findAll()) {
+            loaded.add(ShopLocation.of(shop));
+        }
+        log.debug("shop search index loaded, size={}", loaded.entries.size());
+        return loaded;
+    }
+
+    // 모든 단어 중 가장 낮은 순위, 하나라도 포함되지 않으면 NO_MATCH
+    private int score(Entry entry, List<String> tokens) {
+        int worst = PLACE_PREFIX;
+        for (String token : tokens) {
+            int score = score(entry, token);
+            if (score == NO_MATCH) return NO_MATCH;
+            worst = Math.max(worst, score);
+        }
+        return worst;
+    }
+
+    private int score(Entry entry, String token) {
+        int place = entry.placeName.find(token);
+        if (place != NO_MATCH) return place;
+
+        int address = entry.roadAddressName.find(token);
+        if (address == NO_MATCH) return NO_MATCH;
+        return address == PLACE_CONTAINS ? ADDRESS_CONTAINS : ADDRESS_WORD_PREFIX;
+    }
+
+    // 검색어 정규화 후 공백 단위로 나눔 ex) " 인생네컷  홍대 " -> [인생네컷, 홍대]
+    private static List<String> tokenize(String query) {
+        String normalized = normalize(query);
+        if (normalized == null || normalized.isEmpty()) return Collections.emptyList();
+        return Arrays.asList(normalized.split(" "));
+    }
+
+    // 검색 단어의 조각, 한 글자면 그 글자, 두 글자 이상이면 연속된 두 글자들
+    private static List<String> queryGrams(String token) {
+        if (token.length() == 1) return Collections.singletonList(token);
+        List<String> result = new ArrayList<>(token.length() - 1);
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            result.add(token.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    // 문자열의 모든 한 글자, 두 글자 조각
+    private static void addGrams(String text, Set<String> result) {
+        for (int i = 0; i < text.length(); i++) {
+            result.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) result.add(text.substring(i, i + 2));
+        }
+    }
+
+    // 유니코드 정규화, 공백 정리, 소문자 변환
+    private static String normalize(String text) {
+        String normalized = ShopAddressIndex.normalize(text);
+        return normalized == null ? null : normalized.toLowerCase(Locale.ROOT);
+    }
+
+    // 조각 -> Shop id 역색인, 공유 인덱스는 SharedIndex 의 lock 안에서만 읽고 수정
+    private static class Postings {
+        private final Map<Long, Entry> entries = new HashMap<>(); // id -> Shop
+        private final Map<String, Set<Long>> grams = new HashMap<>(); // 글자 조각 -> Shop id
+        private final Map<String, Set<Long>> choseongGrams = new HashMap<>(); // 초성 조각 -> Shop id
+
+        // 단어마다 가장 적은 Shop 을 가리키는 조각을 고르고 그중 가장 작은 집합을 후보로 사용
+        private Set<Long> candidates(List<String> tokens) {
+            Set<Long> smallest = null;
+            for (String token : tokens) {
+                boolean choseong = HangulUtil.containsChoseong(token);
+                Map<String, Set<Long>> index = choseong ? choseongGrams : grams;
+                for (String gram : queryGrams(choseong ? HangulUtil.choseong(token) : token)) {
+                    Set<Long> ids = index.get(gram);
+                    if (ids == null) return Collections.emptySet(); // 포함하는 Shop 없음
+                    if (smallest == null || ids.size() < smallest.size()) smallest = ids;
+                }
+            }
+            return smallest == null ? Collections.emptySet() : smallest;
+        }
+
+        private void add(ShopLocation shop) {
+            Entry entry = new Entry(shop);
+            entries.put(shop.getId(), entry);
+            for (String gram : entry.grams()) {
+                grams.computeIfAbsent(gram, k -> new HashSet<>()).add(shop.getId());
+            }
+            for (String gram : entry.choseongGrams()) {
+                choseongGrams.computeIfAbsent(gram, k -> new HashSet<>()).add(shop.getId());
+            }
+        }
+
+        private void remove(Long shopId) {
+            Entry entry = entries.remove(shopId);
+            if (entry == null) return;
+
+            for (String gram : entry.grams()) {
+                removePosting(grams, gram, shopId);
+            }
+            for (String gram : entry.choseongGrams()) {
+                removePosting(choseongGrams, gram, shopId);
+            }
+        }
+
+        private static void removePosting(Map<String, Set<Long>> index, String gram, Long shopId) {
+            Set<Long> ids = index.get(gram);
+            if (ids == null) return;
+            ids.remove(shopId);
+            if (ids.isEmpty()) index.remove(gram);
+        }
+    }
+
+    private static class Entry {
+        private final ShopLocation shop;
+        private final Field placeName;
+        private final Field roadAddressName;
+
+        private Entry(ShopLocation shop) {
+            this.shop = shop;
+            this.placeName = new Field(shop.getPlaceName());
+            this.roadAddressName = new Field(shop.getRoadAddressName());
+        }
+
+        private Set<String> grams() {
+            Set<String> result = new HashSet<>();
+            addGrams(placeName.text, result);
+            addGrams(roadAddressName.text, result);
+            return result;
+        }
+
+        private Set<String> choseongGrams() {
+            Set<String> result = new HashSet<>();
+            addGrams(HangulUtil.choseong(placeName.text), result);
+            addGrams(HangulUtil.choseong(roadAddressName.text), result);
+            return result;
+        }
+    }
+
+    // 검색 대상 문자열 (상점명 또는 주소)
+    private static class Field {
+        private final String text; // 정규화 후 공백 제거 ex) "인생네컷 서울숲점" -> "인생네컷서울숲점"
+        private final BitSet wordStarts = new BitSet(); // text 에서 원문 단어가 시작하는 위치
+
+        private Field(String value) {
+            String normalized = normalize(value);
+            StringBuilder sb = new StringBuilder();
+            if (normalized != null) {
+                boolean wordStart = true;
+                for (int i = 0; i < normalized.length(); i++) {
+                    char c = normalized.charAt(i);
+                    if (c == ' ') {
+                        wordStart = true;
+                        continue;
+                    }
+                    if (wordStart) wordStarts.set(sb.length());
+                    sb.append(c);
+                    wordStart = false;
+                }
+            }
+            this.text = sb.toString();
+        }
+
+        // 검색 단어가 포함된 위치 중 가장 높은 순위 (접두어, 단어 접두어, 포함), 없으면 NO_MATCH
+        private int find(String token) {
+            int best = NO_MATCH;
+            for (int pos = 0; pos + token.length() <= text.length(); pos++) {
+                if (!matchesAt(pos, token)) continue;
+                if (pos == 0) return PLACE_PREFIX;
+                if (wordStarts.get(pos)) best = PLACE_WORD_PREFIX;
+                else if (best == NO_MATCH) best = PLACE_CONTAINS;
+            }
+            return best;
+        }
+
+        private boolean matchesAt(int pos, String token) {
+            for (int i = 0; i < token.length(); i++) {
+                if (!HangulUtil.matches(token.charAt(i), text.charAt(pos + i))) return false;
+            }
+            return true;
+        }
+    }
+
+    private static class Hit {
+        private final Entry entry;
+        private final int score;
+        private final double distance; // 기준 좌표와의 거리(m), 기준 좌표가 없으면 0
+
+        private Hit(Entry entry, int score, double distance) {
+            this.entry = entry;
+            this.score = score;
+            this.distance = distance;
+        }
+    }
+}
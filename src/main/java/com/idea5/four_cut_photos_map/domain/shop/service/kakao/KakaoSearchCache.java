@@ -0,0 +1,153 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.kakao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.idea5.four_cut_photos_map.global.cache.LocalCache;
+import com.idea5.four_cut_photos_map.global.common.RedisDao;
+import com.idea5.four_cut_photos_map.global.util.DocumentManagement;
+import com.idea5.four_cut_photos_map.global.util.GeoCell;
+import com.idea5.four_cut_photos_map.global.util.JsonCodecs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오맵 API 검색 결과 캐시 (L1: 서버별 메모리, L2: Redis)
+ * - key: (검색 종류, 브랜드 또는 키워드, 좌표 셀, 반경, 페이지)
+ * - 같은 셀 안의 사용자는 셀 중심 좌표로 조회한 결과를 공유하고, 거리는 사용자 좌표로 다시 계산한다.
+ * - 거리 계산 전 원본 응답(Document 배열, 페이지 정보)을 보관하므로 꺼낸 값을 수정하면 안된다.
+ * - 카카오맵 API 장애 시 사용할 수 있도록 마지막으로 성공한 응답을 별도 key 로 더 오래 보관한다. (stale)
+ * - track() 으로 등록한 셀(핫스팟)은 셀별 적중/실패 횟수를 집계한다.
+ */
+@Slf4j
+@Component
+public class KakaoSearchCache {
+    private static final String KEY_PREFIX = "kakao_search:";
+    private static final String STALE_KEY_PREFIX = "stale:"; // ex) stale:kakao_search:marker:...
+
+    private final RedisDao redisDao;
+    private final LocalCache<String, DocumentManagement> localCache;
+    private final Map<String, CellStats> cellStats = new ConcurrentHashMap<>(); // 셀 key -> 적중/실패 횟수 (등록한 셀만)
+
+    private final double cellSize; // 좌표 셀 크기(도)
+    private final Duration ttl; // Redis 보관 기간
+    private final Duration staleTtl; // 장애 대비용 Redis 보관 기간
+    private final long localTtlMillis; // 서버 메모리 보관 기간(ms)
+
+    public KakaoSearchCache(RedisDao redisDao,
+                            @Value("${kakao.cache.cell-size:0.005}") double cellSize,
+                            @Value("${kakao.cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${kakao.cache.stale-ttl-seconds:86400}") long staleTtlSeconds,
+                            @Value("${kakao.cache.local-ttl-seconds:60}") long localTtlSeconds,
+                            @Value("${kakao.cache.local-max-size:10000}") int localMaxSize) {
+        this.redisDao = redisDao;
+        this.cellSize = cellSize;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.staleTtl = Duration.ofSeconds(Math.max(staleTtlSeconds, ttlSeconds));
+        this.localTtlMillis = Duration.ofSeconds(Math.min(localTtlSeconds, ttlSeconds)).toMillis();
+        this.localCache = new LocalCache<>(localMaxSize);
+    }
+
+    // 좌표가 속한 셀
+    public GeoCell cellOf(double longitude, double latitude) {
+        return GeoCell.of(longitude, latitude, cellSize);
+    }
+
+    // 캐시 key 생성, ex) kakao_search:marker:인생네컷:7366:12713:2400:1
+    public String key(String type, String query, GeoCell cell, int radius, int page) {
+        return KEY_PREFIX + type + ":" + query + ":" + cell.getKey() + ":" + radius + ":" + page;
+    }
+
+    // 캐시 조회, 등록한 셀이면 적중/실패 횟수 집계
+    public DocumentManagement get(String key, GeoCell cell) {
+        DocumentManagement page = get(key);
+        CellStats stats = cellStats.get(cell.getKey());
+        if (stats != null) stats.record(page != null);
+        return page;
+    }
+
+    // 캐시 조회 (L1 -> Redis), 없으면 null
+    public DocumentManagement get(String key) {
+        DocumentManagement page = localCache.get(key);
+        if (page != null) return page;
+
+        try {
+            String json = redisDao.getValues(key);
+            if (json == null) return null;
+
+            page = JsonCodecs.DOCUMENT_MANAGEMENT_READER.readValue(json);
+            localCache.putWithTtl(key, page, localTtlMillis);
+            return page;
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 캐시 장애는 카카오맵 API 직접 호출로 대체
+            log.warn("카카오 검색 캐시 조회 실패, key={}, message={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    // 캐시 저장 (L1, Redis)
+    public void put(String key, DocumentManagement page) {
+        localCache.putWithTtl(key, page, localTtlMillis);
+        try {
+            String json = JsonCodecs.DOCUMENT_MANAGEMENT_WRITER.writeValueAsString(page);
+            redisDao.setValues(key, json, ttl);
+            redisDao.setValues(STALE_KEY_PREFIX + key, json, staleTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("카카오 검색 캐시 저장 실패, key={}, message={}", key, e.getMessage());
+        }
+    }
+
+    // 마지막으로 성공한 응답 조회 (만료된 캐시 포함, 카카오맵 API 장애 시 사용), 없으면 null
+    public DocumentManagement getStale(String key) {
+        try {
+            String json = redisDao.getValues(STALE_KEY_PREFIX + key);
+            if (json == null) return null;
+            return JsonCodecs.DOCUMENT_MANAGEMENT_READER.readValue(json);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("카카오 검색 stale 캐시 조회 실패, key={}, message={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    public LocalCache<String, DocumentManagement> getLocalCache() {
+        return localCache;
+    }
+
+    // 셀별 적중률 집계 시작
+    public CellStats track(GeoCell cell) {
+        return cellStats.computeIfAbsent(cell.getKey(), k -> new CellStats());
+    }
+
+    // 셀 key -> 적중/실패 횟수
+    public Map<String, CellStats> getCellStats() {
+        return Collections.unmodifiableMap(cellStats);
+    }
+
+    public static class CellStats {
+        private final AtomicLong hitCount = new AtomicLong();
+        private final AtomicLong missCount = new AtomicLong();
+
+        private void record(boolean hit) {
+            (hit ? hitCount : missCount).incrementAndGet();
+        }
+
+        public long getHitCount() {
+            return hitCount.get();
+        }
+
+        public long getMissCount() {
+            return missCount.get();
+        }
+
+        // 적중률 (조회가 없으면 0)
+        public double getHitRatio() {
+            long hit = hitCount.get(), total = hit + missCount.get();
+            return total == 0 ? 0 : (double) hit / total;
+        }
+    }
+}
@@ -1,121 +1,466 @@
 package com.idea5.four_cut_photos_map.domain.shop.service.kakao;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestBrandSearch;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestKeywordSearch;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShop;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoKeywordResponseDto;
-import com.idea5.four_cut_photos_map.global.util.Util;
+import com.idea5.four_cut_photos_map.global.cache.SingleFlight;
+import com.idea5.four_cut_photos_map.global.error.exception.BusinessException;
+import com.idea5.four_cut_photos_map.global.util.DistanceFormatter;
+import com.idea5.four_cut_photos_map.global.util.DocumentManagement;
+import com.idea5.four_cut_photos_map.global.util.DocumentManagement.Document;
+import com.idea5.four_cut_photos_map.global.util.DocumentManagement.Meta;
+import com.idea5.four_cut_photos_map.global.util.GeoCell;
+import com.idea5.four_cut_photos_map.global.util.GeoUtil;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
+import org.springframework.core.codec.CodecException;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static com.idea5.four_cut_photos_map.global.error.ErrorCode.KAKAO_API_UNAVAILABLE;
 
 
+/**
+ * 카카오맵 키워드 장소 검색 API
+ * - 좌표 기준 검색은 KakaoSearchCache 의 셀 중심 좌표로 요청하고 결과를 캐시한다.
+ * - 응답의 거리는 캐시된 장소 좌표와 사용자 좌표로 다시 계산한다.
+ * - 캐시에 없는 같은 key 의 동시 요청은 카카오맵 API 호출 하나로 합친다.
+ * - api 호출은 논블로킹(WebClient)으로 수행하고 CompletableFuture 로 결과를 반환한다. (~Async)
+ *   블로킹 메서드는 비동기 결과를 기다려서 반환한다.
+ * - api 응답 이후의 Redis 캐시 조회/저장은 전용 스레드 풀(cacheExecutor)에서 수행한다.
+ *   (WebClient 이벤트 루프 스레드에서 블로킹 호출을 하면 Redis 가 느려질 때 모든 api 호출이 함께 멈춤)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordSearchKakaoApi {
+    private static final String KEYWORD_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/keyword.JSON?";
+    private static final int MARKER_RADIUS = 2000; // 마커 조회 반경(m)
+    private static final int MARKER_PAGE_SIZE = 15; // 마커 조회 페이지 크기 (카카오맵 API 최대값)
+    private static final int MARKER_MAX_PAGE = 3; // 마커 조회 최대 페이지 (카카오맵 API 는 최대 45개까지 조회 가능)
+    private static final long UNKNOWN_DISTANCE = Long.MAX_VALUE; // 좌표가 없어 거리를 알 수 없음
 
     @Value("${REST_API_KEY}")
     private String kakao_apikey;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    @Value("${kakao.api.timeout-ms:3000}")
+    private long apiTimeoutMs; // api 호출 제한 시간(ms), 초과하면 요청을 끊고 벌크헤드, single flight 자리를 반환
+    @Value("${kakao.cache.executor.pool-size:8}")
+    private int cacheExecutorPoolSize; // 캐시 조회/저장 스레드 수
+    @Value("${kakao.cache.executor.queue-capacity:1000}")
+    private int cacheExecutorQueueCapacity; // 캐시 조회/저장 대기 작업 수, 넘으면 거절 (호출부에서 DB 데이터로 대체)
+    private final WebClient kakaoLocalWebClient;
+    private final KakaoSearchCache kakaoSearchCache;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final SingleFlight<String, DocumentManagement> singleFlight = new SingleFlight<>(); // 캐시 key 별 동시 호출 합치기
+    private ThreadPoolExecutor cacheExecutor; // api 응답 이후 Redis 캐시 조회/저장용
 
-    public List<KakaoKeywordResponseDto> searchByKeyword(RequestKeywordSearch requestKeywordSearch) throws JsonProcessingException {
-        // 1. 결과값 담을 객체 생성
-        List<KakaoKeywordResponseDto> resultList = new ArrayList<>();
+    @PostConstruct
+    public void init() {
+        cacheExecutor = new ThreadPoolExecutor(cacheExecutorPoolSize, cacheExecutorPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(cacheExecutorQueueCapacity), new CustomizableThreadFactory("kakao-cache-"));
+        ExecutorServiceMetrics.monitor(meterRegistry, cacheExecutor, "kakao.cache.executor");
 
-        // 2. header 설정을 위해 HttpHeader 클래스 생성 후 HttpEntity 객체에 넣어준다.
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakao_apikey);
-
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+        // 실제 api 호출 수(executed) / 진행 중인 호출에 합쳐진 수(coalesced)
+        FunctionCounter.builder("kakao.api.single_flight", singleFlight, SingleFlight::getExecutedCount)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        FunctionCounter.builder("kakao.api.single_flight", singleFlight, SingleFlight::getCoalescedCount)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
 
-        // 3. 파라미터를 사용하여 요청 URL 정의
-        String apiURL = "https://dapi.kakao.com/v2/local/search/keyword.JSON?"
-                + "query=" + requestKeywordSearch.getKeyword()+ " 즉석사진"
-                + "&x=" + requestKeywordSearch.getLongitude()
-                + "&y=" + requestKeywordSearch.getLatitude();
+    @PreDestroy
+    public void destroy() {
+        cacheExecutor.shutdown();
+    }
 
-        // 4. exchange 메서드로 api 호출
-        String body = restTemplate.exchange(apiURL, HttpMethod.GET, entity, String.class).getBody();
+    public List<KakaoKeywordResponseDto> searchByKeyword(RequestKeywordSearch requestKeywordSearch) throws JsonProcessingException {
+        return join(searchByKeywordAsync(requestKeywordSearch));
+    }
 
-        // 5. JSON -> KakaoKeywordResponseDto로 역직렬화
-        JsonNode node = objectMapper.readTree(body);
-        List<String> countList = node.get("documents").findValuesAsText("place_name");
+    public CompletableFuture<List<KakaoKeywordResponseDto>> searchByKeywordAsync(RequestKeywordSearch requestKeywordSearch) {
+        // 1. 사용자 좌표가 속한 셀의 캐시 조회
+        GeoCell cell = kakaoSearchCache.cellOf(requestKeywordSearch.getLongitude(), requestKeywordSearch.getLatitude());
+        String key = kakaoSearchCache.key("keyword", requestKeywordSearch.getKeyword(), cell, 0, 1);
 
-        for(int i=0; i<countList.size(); i++) {
-            JsonNode documents = node.get("documents").get(i);
+        // 2. 캐시에 없으면 셀 중심 좌표로 api 호출
+        String apiURL = KEYWORD_SEARCH_URL
+                + "query=" + requestKeywordSearch.getKeyword()+ " 즉석사진"
+                + "&x=" + cell.getLongitude()
+                + "&y=" + cell.getLatitude();
 
-            KakaoKeywordResponseDto dto = KakaoKeywordResponseDto.builder()
-                    .placeName(documents.get("place_name").textValue())
-                    .roadAddressName(documents.get("road_address_name").textValue())
-                    .longitude(documents.get("x").textValue())
-                    .latitude(documents.get("y").textValue())
-                    .distance(Util.distanceFormatting(documents.get("distance").textValue()))
-                    .build();
+        // 3. Document -> KakaoKeywordResponseDto 변환 (정확도 순서 유지, 거리는 사용자 좌표 기준)
+        return loadPageAsync(key, cell, apiURL).thenApply(page -> {
+            List<KakaoKeywordResponseDto> resultList = new ArrayList<>();
+            if (page == null) return resultList;
 
-            resultList.add(dto);
-        }
+            for (Document document : page.getDocuments()) {
+                KakaoKeywordResponseDto dto = KakaoKeywordResponseDto.builder()
+                        .placeName(document.getPlace_name())
+                        .roadAddressName(document.getRoad_address_name())
+                        .longitude(document.getX())
+                        .latitude(document.getY())
+                        .distance(formatMeters(distance(document, requestKeywordSearch.getLongitude(), requestKeywordSearch.getLatitude())))
+                        .build();
 
-        return resultList;
+                resultList.add(dto);
+            }
+            return resultList;
+        });
     }
 
 
-    public List<KakaoResponseDto> searchByBrand(RequestBrandSearch request, int page){
-        // 2. header 설정을 위해 HttpHeader 클래스 생성 후 HttpEntity 객체에 넣어준다.
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakao_apikey);
-
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+    public BrandPage searchByBrand(RequestBrandSearch request, int page){
+        return join(searchByBrandAsync(request, page));
+    }
 
-        // 3. 파라미터를 사용하여 요청 URL 정의
+    /**
+     * 브랜드 검색 결과 한 페이지 조회 (페이지 정보 포함)
+     * - 카카오맵 API 응답의 meta.is_end, meta.pageable_count 로 남은 페이지가 있는지 판단할 수 있다.
+     * - 응답 파싱에 실패하면 마지막 페이지로 처리한다.
+     */
+    public CompletableFuture<BrandPage> searchByBrandAsync(RequestBrandSearch request, int page){
+        GeoCell cell = kakaoSearchCache.cellOf(request.getLongitude(), request.getLatitude());
+        String key = kakaoSearchCache.key("brand", request.getBrand(), cell, 0, page);
         // ex) https://dapi.kakao.com/v2/local/search/keyword?query=${}&x=${}&y=${}&sort=distance
-        String apiURL = "https://dapi.kakao.com/v2/local/search/keyword.JSON?"
+        String apiURL = KEYWORD_SEARCH_URL
                 + "query=" + request.getBrand()
-                + "&x="+request.getLongitude()
-                + "&y="+request.getLatitude()
+                + "&x=" + cell.getLongitude()
+                + "&y=" + cell.getLatitude()
                 + "&size=15"
-                + "&page="+page
+                + "&page=" + page
                 + "&sort=distance"; // 거리순
-        System.out.println("apiURL = " + apiURL);
 
-        // 4. exchange 메서드로 api 호출
-        String body = restTemplate.exchange(apiURL, HttpMethod.GET, entity, String.class).getBody();
-        List<KakaoResponseDto> list = Util.jackson2(body, request.getBrand());
-        return list;
+        return loadPageAsync(key, cell, apiURL).thenApply(result -> {
+            if (result == null) return new BrandPage(new ArrayList<>(), true, 0);
+
+            // 사용자 좌표 기준 거리순
+            List<KakaoResponseDto> shops = toKakaoResponseDtos(result.getDocuments(), request.getLongitude(), request.getLatitude(), Long.MAX_VALUE);
+            Meta meta = result.getMeta();
+            // meta 가 없는 응답은 다음 페이지를 알 수 없으므로 마지막 페이지로 처리
+            return meta == null ? new BrandPage(shops, true, 0) : new BrandPage(shops, meta.isIs_end(), meta.getPageable_count());
+        });
     }
 
 
     public List<KakaoResponseDto> searchMarkers(RequestShop shop, String brandName) {
-        // 2. header 설정을 위해 HttpHeader 클래스 생성 후 HttpEntity 객체에 넣어준다.
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakao_apikey);
+        return join(searchMarkersAsync(shop, brandName));
+    }
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+    public CompletableFuture<List<KakaoResponseDto>> searchMarkersAsync(RequestShop shop, String brandName) {
+        GeoCell cell = kakaoSearchCache.cellOf(shop.getLongitude(), shop.getLatitude());
 
-        // 3. 파라미터를 사용하여 요청 URL 정의
-        // ex) https://dapi.kakao.com/v2/local/search/keyword?query=${}&x=${}&y=${}&sort=distance
-        String apiURL = "https://dapi.kakao.com/v2/local/search/keyword.JSON?"
+        return loadMarkerPagesAsync(brandName, cell, true).thenApply(documents ->
+                // 사용자 좌표 기준 반경 2km 이내만, 거리순
+                toKakaoResponseDtos(documents, shop.getLongitude(), shop.getLatitude(), MARKER_RADIUS));
+    }
+
+    /**
+     * 캐시를 확인하지 않고 api 를 호출해서 좌표가 속한 셀의 마커 캐시를 갱신한다. (핫스팟 셀 미리 적재용)
+     * - 호출이 실패하면 기존 캐시는 그대로 둔다. (차단되었고 stale 결과도 없으면 BusinessException 으로 완료)
+     * - 캐시 조회를 거치지 않으므로 셀별 hit/miss 집계에 포함되지 않는다.
+     * - 결과는 searchMarkersAsync 와 같이 사용자 좌표 기준 반경 2km 이내, 거리순
+     */
+    public CompletableFuture<List<KakaoResponseDto>> refreshMarkersAsync(RequestShop shop, String brandName) {
+        GeoCell cell = kakaoSearchCache.cellOf(shop.getLongitude(), shop.getLatitude());
+
+        return loadMarkerPagesAsync(brandName, cell, false).thenApply(documents ->
+                toKakaoResponseDtos(documents, shop.getLongitude(), shop.getLatitude(), MARKER_RADIUS));
+    }
+
+    /**
+     * 셀의 마커 조회 결과 전체 페이지
+     * - 셀 중심에서 넓힌 반경으로 조회하므로 1페이지(15개)만으로는 사용자 좌표 2km 이내 Shop 이 빠질 수 있다.
+     *   1페이지의 meta.is_end, meta.pageable_count 로 남은 페이지를 알아내서 나머지 페이지를 동시에 조회한다.
+     * - 2페이지 이후 조회에 실패한 페이지는 제외한다.
+     * - 1페이지 응답은 이벤트 루프 스레드에서 도착할 수 있으므로 나머지 페이지 캐시 조회는 cacheExecutor 에서 시작한다.
+     * @param useCache false 이면 캐시를 확인하지 않고 api 를 호출해서 캐시 갱신
+     */
+    private CompletableFuture<Document[]> loadMarkerPagesAsync(String brandName, GeoCell cell, boolean useCache) {
+        return failIfRejected(loadMarkerPageAsync(brandName, cell, 1, useCache).thenComposeAsync(first -> {
+            if (first == null) return CompletableFuture.completedFuture(new Document[0]);
+
+            List<CompletableFuture<DocumentManagement>> rest = new ArrayList<>();
+            for (int page = 2; page <= lastMarkerPage(first.getMeta()); page++) {
+                int current = page;
+                rest.add(loadMarkerPageAsync(brandName, cell, page, useCache).exceptionally(e -> {
+                    log.warn("마커 조회 실패, brand={}, page={}, message={}", brandName, current, unwrap(e).getMessage());
+                    return null;
+                }));
+            }
+            return CompletableFuture.allOf(rest.toArray(new CompletableFuture[0])).thenApply(done -> {
+                List<Document> documents = new ArrayList<>(Arrays.asList(first.getDocuments()));
+                for (CompletableFuture<DocumentManagement> future : rest) {
+                    DocumentManagement page = future.join();
+                    if (page != null) documents.addAll(Arrays.asList(page.getDocuments()));
+                }
+                return documents.toArray(new Document[0]);
+            });
+        }, cacheExecutor));
+    }
+
+    private CompletableFuture<DocumentManagement> loadMarkerPageAsync(String brandName, GeoCell cell, int page, boolean useCache) {
+        int radius = markerRadius(cell);
+        String key = kakaoSearchCache.key("marker", brandName, cell, radius, page);
+        String apiURL = markerURL(brandName, cell, radius, page);
+        return useCache ? loadPageAsync(key, cell, apiURL) : fetchAndCacheAsync(key, apiURL, false);
+    }
+
+    // 1페이지 meta 로 계산한 마지막 페이지, meta 가 없거나 마지막 페이지면 1
+    private int lastMarkerPage(Meta meta) {
+        if (meta == null || meta.isIs_end()) return 1;
+        int pages = (meta.getPageable_count() + MARKER_PAGE_SIZE - 1) / MARKER_PAGE_SIZE;
+        return Math.max(1, Math.min(MARKER_MAX_PAGE, pages));
+    }
+
+    // 셀 안의 어느 좌표에서 조회해도 반경 2km 를 모두 포함하도록, 셀 중심에서 (2km + 셀 반대각선) 반경으로 조회
+    private int markerRadius(GeoCell cell) {
+        return MARKER_RADIUS + cell.getHalfDiagonal();
+    }
+
+    // ex) https://dapi.kakao.com/v2/local/search/keyword?query=${}&x=${}&y=${}&sort=distance
+    private String markerURL(String brandName, GeoCell cell, int radius, int page) {
+        return KEYWORD_SEARCH_URL
                 + "query=" + brandName
-                + "&x="+shop.getLongitude()
-                + "&y="+shop.getLatitude()
+                + "&x=" + cell.getLongitude()
+                + "&y=" + cell.getLatitude()
                 + "&sort=distance" // 거리순
-                + "&radius=2000"; // 반경 2km이내
-        System.out.println("apiURL = " + apiURL);
+                + "&radius=" + radius
+                + "&size=" + MARKER_PAGE_SIZE
+                + "&page=" + page;
+    }
+
+    // 장소명으로 검색 (중심 좌표 없음), Shop 좌표 보정용
+    public List<KakaoResponseDto> searchByPlaceName(String placeName) {
+        String apiURL = KEYWORD_SEARCH_URL
+                + "query=" + placeName
+                + "&size=15";
+
+        DocumentManagement result = join(fetchPage(apiURL));
+        if (result == null) return new ArrayList<>();
+        return toKakaoResponseDtos(result.getDocuments(), 0, 0, UNKNOWN_DISTANCE, false);
+    }
+
+    /**
+     * 캐시 조회, 없으면 api 호출 후 캐시에 저장 (응답 파싱에 실패하면 저장하지 않고 null)
+     * - 같은 key 로 동시에 들어온 호출은 api 요청 하나를 공유한다. (single flight)
+     * - api 호출은 서킷 브레이커, 벌크헤드를 거치고, 차단되거나 실패하면 마지막으로 성공한 결과(stale)로 응답한다.
+     * - 호출이 차단되었고 stale 결과도 없으면 BusinessException(KAKAO_API_UNAVAILABLE) 으로 완료된다.
+     * - 반환된 future 는 호출부마다 새로 만들어지므로 취소해도 다른 호출부에 영향이 없다.
+     */
+    private CompletableFuture<DocumentManagement> loadPageAsync(String key, GeoCell cell, String apiURL) {
+        DocumentManagement page = kakaoSearchCache.get(key, cell);
+        if (page != null) return CompletableFuture.completedFuture(page);
+
+        return fetchAndCacheAsync(key, apiURL, true);
+    }
+
+    // api 호출 후 캐시에 저장, checkLocal 이면 호출 직전에 서버 메모리 캐시를 한 번 더 확인
+    private CompletableFuture<DocumentManagement> fetchAndCacheAsync(String key, String apiURL, boolean checkLocal) {
+        CompletableFuture<DocumentManagement> future = singleFlight.executeAsync(key, () -> {
+            // 앞서 실행된 호출이 방금 캐시에 저장했을 수 있으므로 서버 메모리 캐시 한 번 더 확인
+            DocumentManagement cached = checkLocal ? kakaoSearchCache.getLocalCache().get(key) : null;
+            if (cached != null) return CompletableFuture.completedFuture(cached);
+
+            Supplier<CompletionStage<DocumentManagement>> call = Bulkhead.decorateCompletionStage(bulkhead,
+                    CircuitBreaker.decorateCompletionStage(circuitBreaker, () -> fetchPage(apiURL)));
+            return call.get().thenApplyAsync(loaded -> {
+                if (loaded != null) kakaoSearchCache.put(key, loaded);
+                return loaded;
+            }, cacheExecutor);
+        }).handleAsync((result, e) -> e == null ? result : fallback(key, unwrap(e)), cacheExecutor);
+        return failIfRejected(future);
+    }
+
+    // cacheExecutor 가 가득 차서 거절되면 BusinessException(KAKAO_API_UNAVAILABLE) 으로 완료 (호출부에서 DB 데이터로 대체)
+    private <T> CompletableFuture<T> failIfRejected(CompletableFuture<T> future) {
+        return future.exceptionally(e -> {
+            if (unwrap(e) instanceof RejectedExecutionException) {
+                log.warn("카카오 검색 캐시 작업 거절, 대기 작업 수={}", cacheExecutor.getQueue().size());
+                throw new BusinessException(KAKAO_API_UNAVAILABLE);
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        });
+    }
+
+    // api 호출 실패 시 마지막으로 성공한 결과로 대체, 없으면 예외
+    private DocumentManagement fallback(String key, Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException || e instanceof RejectedExecutionException) {
+            // 서킷 브레이커 열림, 동시 호출 한도 초과, 캐시 작업 거절 -> 없으면 호출부에서 DB 데이터로 대체
+            DocumentManagement stale = kakaoSearchCache.getStale(key);
+            if (stale != null) return stale;
+            log.warn("카카오맵 API 호출 차단, key={}, message={}", key, e.getMessage());
+            throw new BusinessException(KAKAO_API_UNAVAILABLE);
+        }
+        if (e instanceof WebClientException || e instanceof TimeoutException) {
+            // 통신 오류, 제한 시간 초과 -> 마지막으로 성공한 결과가 있으면 사용
+            DocumentManagement stale = kakaoSearchCache.getStale(key);
+            if (stale != null) {
+                log.warn("카카오맵 API 호출 실패, stale 캐시로 응답, key={}, message={}", key, e.getMessage());
+                return stale;
+            }
+        }
+        if (e instanceof TimeoutException) {
+            // 제한 시간 초과는 checked 예외 -> 차단된 경우와 같이 호출부에서 DB 데이터로 대체
+            log.warn("카카오맵 API 응답 시간 초과, key={}, timeout={}ms", key, apiTimeoutMs);
+            throw new BusinessException(KAKAO_API_UNAVAILABLE);
+        }
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        throw new CompletionException(e);
+    }
+
+    // 서킷 브레이커가 열려 있으면 false (카카오맵 API 를 호출하지 않고 stale 캐시나 DB 데이터로 응답)
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * api 호출 후 응답 body 를 DocumentManagement 로 역직렬화 (논블로킹)
+     * - body 전체를 String 으로 만들지 않고 JSON 디코더가 받은 순서대로 읽는다.
+     * - 4xx 응답은 오류로 보지 않고 body 를 그대로 읽는다. (5xx 만 오류, RestTemplateResponseErrorHandler 와 동일)
+     * - documents 가 없으면 빈 배열로 채우고, 응답 파싱에 실패하면 null 로 완료된다.
+     * - 제한 시간(kakao.api.timeout-ms)이 지나면 요청을 끊고 TimeoutException 으로 완료된다.
+     *   (서킷 브레이커에 실패로 기록된 뒤 fallback, join 에서 BusinessException(KAKAO_API_UNAVAILABLE) 으로 바뀐다.)
+     *   (toFuture() 의 future 를 취소해도 single flight 로 감싼 뒤에는 요청까지 전달되지 않으므로 Mono 에서 끊는다.)
+     */
+    private CompletableFuture<DocumentManagement> fetchPage(String apiURL) {
+        log.debug("apiURL = {}", apiURL);
+        return kakaoLocalWebClient.get()
+                .uri(apiURL)
+                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakao_apikey)
+                .retrieve()
+                .onStatus(HttpStatus::is4xxClientError, response -> Mono.empty())
+                .bodyToMono(DocumentManagement.class)
+                .map(documentManagement -> documentManagement.getDocuments() != null ? documentManagement
+                        : new DocumentManagement(new Document[0], documentManagement.getMeta()))
+                .onErrorResume(CodecException.class, e -> {
+                    // 응답 파싱 실패는 빈 결과로 처리, 네트워크 오류는 그대로 전달
+                    log.error(e.getMessage());
+                    return Mono.empty();
+                })
+                .timeout(Duration.ofMillis(apiTimeoutMs))
+                .toFuture();
+    }
+
+    // 비동기 결과를 기다려서 반환, 실패 원인 예외를 그대로 전달
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof TimeoutException) throw new BusinessException(KAKAO_API_UNAVAILABLE);
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("카카오맵 API 응답 대기 중 인터럽트", e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    private List<KakaoResponseDto> toKakaoResponseDtos(Document[] documents, double longitude, double latitude, long maxDistance) {
+        return toKakaoResponseDtos(documents, longitude, latitude, maxDistance, true);
+    }
+
+    // 사용자 좌표 기준 거리를 다시 계산해서 거리순으로 변환, maxDistance(m) 보다 먼 장소는 제외 (좌표 없는 장소는 맨 뒤)
+    private List<KakaoResponseDto> toKakaoResponseDtos(Document[] documents, double longitude, double latitude, long maxDistance, boolean withDistance) {
+        List<Document> sorted = new ArrayList<>(documents.length);
+        long[] distances = new long[documents.length];
+        for (Document document : documents) {
+            long distance = withDistance ? distance(document, longitude, latitude) : UNKNOWN_DISTANCE;
+            if (distance != UNKNOWN_DISTANCE && distance > maxDistance) continue;
+            distances[sorted.size()] = distance;
+            sorted.add(document);
+        }
+
+        Integer[] order = new Integer[sorted.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingLong(i -> distances[i]));
+
+        List<KakaoResponseDto> list = new ArrayList<>(order.length);
+        for (int i : order) {
+            Document document = sorted.get(i);
+            String phone = document.getPhone() == null || document.getPhone().equals("") ? "미등록" : document.getPhone();
+            list.add(KakaoResponseDto.builder()
+                    .address_name(document.getAddress_name())
+                    .placeName(document.getPlace_name())
+                    .roadAddressName(document.getRoad_address_name())
+                    .distance(formatMeters(distances[i]))
+                    .x(document.getX())
+                    .y(document.getY())
+                    .phone(phone)
+                    .build());
+        }
+        return list;
+    }
+
+    // 거리(m) -> 화면 표시용 문자열 ("123m", "2.4km"), 알 수 없으면 "unknown"
+    private String formatMeters(long distance) {
+        return distance == UNKNOWN_DISTANCE ? DistanceFormatter.format("") : DistanceFormatter.format(distance);
+    }
+
+    // 장소 좌표와 사용자 좌표 사이의 거리(m), 좌표가 없으면 UNKNOWN_DISTANCE
+    private long distance(Document document, double longitude, double latitude) {
+        try {
+            double x = Double.parseDouble(document.getX());
+            double y = Double.parseDouble(document.getY());
+            return Math.round(GeoUtil.distance(longitude, latitude, x, y));
+        } catch (NullPointerException | NumberFormatException e) {
+            return UNKNOWN_DISTANCE;
+        }
+    }
 
-        String body = restTemplate.exchange(apiURL, HttpMethod.GET, entity, String.class).getBody();
-        List<KakaoResponseDto> kakaoResponseDtos = Util.jackson2(body, brandName);
-        return kakaoResponseDtos;
+    @Getter
+    @RequiredArgsConstructor
+    public static class BrandPage {
+        private final List<KakaoResponseDto> shops; // 사용자 좌표 기준 거리순
+        private final boolean end; // 마지막 페이지 여부
+        private final int pageableCount; // 노출 가능한 문서 수
     }
-}
\ No newline at end of file
+}
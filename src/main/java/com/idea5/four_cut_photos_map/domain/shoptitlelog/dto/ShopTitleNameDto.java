@@ -0,0 +1,14 @@
+package com.idea5.four_cut_photos_map.domain.shoptitlelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상점 id, 상점이 보유한 칭호 이름 (여러 상점 칭호 일괄 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public class ShopTitleNameDto {
+    private Long shopId;
+    private String name; // 칭호명
+}
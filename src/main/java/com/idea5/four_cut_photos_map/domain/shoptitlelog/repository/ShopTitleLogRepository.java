@@ -1,9 +1,13 @@
 package com.idea5.four_cut_photos_map.domain.shoptitlelog.repository;
 
+import com.idea5.four_cut_photos_map.domain.shoptitlelog.dto.ShopTitleNameDto;
 import com.idea5.four_cut_photos_map.domain.shoptitlelog.entity.ShopTitleLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,10 @@ public interface ShopTitleLogRepository extends JpaRepository<ShopTitleLog, Long
     Optional<ShopTitleLog> findByShopIdAndShopTitleId(Long shopId, Long shopTitleId);
 
     boolean existsByShopId(Long shopId);
+
+    // 여러 상점의 칭호 이름을 한 번에 조회
+    @Query("select new com.idea5.four_cut_photos_map.domain.shoptitlelog.dto.ShopTitleNameDto(stl.shop.id, st.name)" +
+            " from ShopTitleLog stl join stl.shopTitle st" +
+            " where stl.shop.id in :shopIds order by stl.id")
+    List<ShopTitleNameDto> findShopTitleNamesByShopIdIn(@Param("shopIds") Collection<Long> shopIds);
 }
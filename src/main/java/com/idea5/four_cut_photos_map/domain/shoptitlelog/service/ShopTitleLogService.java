@@ -6,6 +6,7 @@ import com.idea5.four_cut_photos_map.domain.shoptitle.dto.ShopTitleDto;
 import com.idea5.four_cut_photos_map.domain.shoptitle.entity.ShopTitle;
 import com.idea5.four_cut_photos_map.domain.shoptitle.repository.ShopTitleRepository;
 import com.idea5.four_cut_photos_map.domain.shoptitlelog.dto.ShopTitleLogDto;
+import com.idea5.four_cut_photos_map.domain.shoptitlelog.dto.ShopTitleNameDto;
 import com.idea5.four_cut_photos_map.domain.shoptitlelog.entity.ShopTitleLog;
 import com.idea5.four_cut_photos_map.domain.shoptitlelog.repository.ShopTitleLogRepository;
 import com.idea5.four_cut_photos_map.global.error.ErrorCode;
@@ -15,9 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.idea5.four_cut_photos_map.global.error.ErrorCode.*;
@@ -80,6 +79,21 @@ public class ShopTitleLogService {
     }
 
 
+    /**
+     * 여러 상점이 보유한 칭호를 쿼리 1번으로 조회
+     * @param shopIds 상점 id 목록
+     * @return 상점 id -> 칭호 이름 리스트 (칭호가 없는 상점은 포함되지 않음)
+     */
+    public Map<Long, List<String>> getShopTitlesByShopIds(Collection<Long> shopIds) {
+        if (shopIds.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, List<String>> shopTitles = new HashMap<>();
+        for (ShopTitleNameDto shopTitleName : shopTitleLogRepository.findShopTitleNamesByShopIdIn(new HashSet<>(shopIds))) {
+            shopTitles.computeIfAbsent(shopTitleName.getShopId(), k -> new ArrayList<>()).add(shopTitleName.getName());
+        }
+        return shopTitles;
+    }
+
     // 상점이 칭호가 아예 없는 상태인지 아닌지 체크 (상점 상세보기 api용)
     public boolean existShopTitles(Long shopId){
         return shopTitleLogRepository.existsByShopId(shopId);
@@ -0,0 +1,144 @@
+package com.idea5.four_cut_photos_map.global.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서버(노드)별 인메모리 캐시
+ * - 조회, 저장은 잠금 없이 ConcurrentHashMap 으로 처리한다. (인증 필터처럼 모든 요청이 거치는 경로에서 사용)
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (근사 LRU)
+ *   조회 시각은 항목에만 기록하고, 정리는 최대 개수를 넘긴 저장 하나가 맡아서 최대 개수의 90% 까지 한 번에 줄인다.
+ * - 항목마다 만료 시각을 가지고, 만료된 항목은 조회 시 또는 정리할 때 제거
+ * - 적중(hit), 실패(miss), 제거(eviction) 횟수 집계
+ * @param <K> key 타입
+ * @param <V> value 타입
+ */
+public class LocalCache<K, V> {
+    private final int maxSize;
+    private final int evictTo; // 정리 후 남길 항목 수
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LocalCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.evictTo = maxSize - maxSize / 10;
+    }
+
+    // key 로 value 조회, 없거나 만료되었으면 null
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            // 그 사이 새로 저장된 항목은 지우지 않음
+            entries.remove(key, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        entry.accessedAt = System.nanoTime();
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    // (key, value) 저장, expireAtMillis 시각에 만료
+    public void put(K key, V value, long expireAtMillis) {
+        entries.put(key, new Entry<>(value, expireAtMillis));
+        if (entries.size() > maxSize) evict();
+    }
+
+    // (key, value) 저장, 지금부터 ttlMillis 후 만료
+    public void putWithTtl(K key, V value, long ttlMillis) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    // key 삭제
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    // 전체 삭제
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 지우고, 그래도 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 evictTo 개까지 제거
+     * - 한 스레드만 정리하고, 정리 중에 최대 개수를 넘긴 다른 저장은 기다리지 않는다.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) return;
+        try {
+            if (entries.size() <= maxSize) return;
+
+            long now = System.currentTimeMillis();
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+                Entry<V> entry = e.getValue();
+                if (entry.isExpired(now)) entries.remove(e.getKey(), entry);
+                else candidates.add(new Candidate<>(e.getKey(), entry));
+            }
+
+            // 정렬 중에 조회 시각이 바뀌지 않도록 Candidate 에 복사해 둔 시각으로 정렬
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.accessedAt));
+            for (Candidate<K, V> candidate : candidates) {
+                if (entries.size() <= evictTo) break;
+                if (entries.remove(candidate.key, candidate.entry)) evictionCount.incrementAndGet();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expireAtMillis;
+        private volatile long accessedAt = System.nanoTime(); // 마지막 조회(저장) 시각, 정리 순서에만 사용
+
+        private Entry(V value, long expireAtMillis) {
+            this.value = value;
+            this.expireAtMillis = expireAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expireAtMillis;
+        }
+    }
+
+    private static class Candidate<K, V> {
+        private final K key;
+        private final Entry<V> entry;
+        private final long accessedAt;
+
+        private Candidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.accessedAt = entry.accessedAt;
+        }
+    }
+}
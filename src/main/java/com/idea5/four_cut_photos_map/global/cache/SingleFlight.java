@@ -0,0 +1,66 @@
+package com.idea5.four_cut_photos_map.global.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 에 대한 동시 호출을 하나로 합치는 클래스 (single flight)
+ * - 먼저 들어온 호출(leader)만 실제로 실행하고, 실행 중에 들어온 같은 key 의 호출은 그 결과를 함께 받는다.
+ * - 실행이 끝나면 key 를 제거하므로 결과를 보관하지 않는다. (보관은 캐시에서 담당)
+ * - 실행(executed), 합쳐진 호출(coalesced) 횟수 집계
+ * @param <K> key 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * key 에 대해 실행 중인 호출이 있으면 그 future 를 그대로 반환하고, 없으면 loader 가 반환한 future 를 공유
+     * - loader 에서 발생한 예외는 기다리던 호출에도 그대로 전달된다.
+     * - 결과를 기다리는 동안 스레드를 점유하지 않는다.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            coalescedCount.incrementAndGet();
+            return inFlight;
+        }
+
+        executedCount.incrementAndGet();
+        CompletionStage<V> stage;
+        try {
+            stage = loader.get();
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, call);
+            call.completeExceptionally(e);
+            return call;
+        }
+        stage.whenComplete((value, e) -> {
+            // 결과를 전달하기 전에 key 를 제거해서, 이후 호출은 새로 실행 (보관은 캐시에서 담당)
+            calls.remove(key, call);
+            if (e != null) call.completeExceptionally(e);
+            else call.complete(value);
+        });
+        return call;
+    }
+
+    // 현재 실행 중인 key 수
+    public int inFlightCount() {
+        return calls.size();
+    }
+
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+}
@@ -1,10 +1,17 @@
 package com.idea5.four_cut_photos_map.global.common;
 
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * RedisTemplate 를 쉽게 사용하기 위해 만든 DAO
@@ -39,6 +46,13 @@ public class RedisDao {
         return values.get(key);
     }
 
+    // 여러 key 의 value 를 한 번에 조회(MGET), 요청한 key 순서대로 반환하고 없는 key 는 null
+    public List<String> multiGetValues(List<String> keys) {
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        List<String> result = values.multiGet(keys);
+        return result == null ? Collections.nCopies(keys.size(), null) : result;
+    }
+
     // key 삭제
     public void deleteValues(String key) {
         redisTemplate.delete(key);
@@ -48,4 +62,23 @@ public class RedisDao {
     public Boolean hasKey(String key) {
         return redisTemplate.hasKey(key);
     }
+
+    // 패턴에 맞는 key 목록 조회, KEYS 대신 SCAN 으로 나눠서 조회 (Redis 를 오래 막지 않음)
+    public List<String> scanKeys(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+        return redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            return keys;
+        });
+    }
+
+    // 채널에 메시지 발행 (pub/sub)
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
 }
@@ -1,5 +1,6 @@
 package com.idea5.four_cut_photos_map.global.common.data;
 
+// 브랜드명 목록, ShopBrand 와 같은 순서로 유지
 public class Brand {
     public static String[] Names = {"하루필름", "인생네컷", "포토이즘박스", "픽닷"};
 }
@@ -1,8 +1,7 @@
 package com.idea5.four_cut_photos_map.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.idea5.four_cut_photos_map.global.util.JsonCodecs;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,9 +12,7 @@ import org.springframework.context.annotation.Configuration;
 public class JacksonConfig {
     @Bean
     public ObjectMapper objectMapper() {
-        // ObjectMapper 빈으로 등록할 때 LocalDateTime 직렬화/역직렬화 오류 문제때문에 설정
-        return new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // static 메서드(Util)와 같은 설정으로 변환하도록 JsonCodecs 에서 설정한 ObjectMapper 를 복사해서 빈으로 등록
+        return JsonCodecs.copyMapper();
     }
 }
@@ -0,0 +1,88 @@
+package com.idea5.four_cut_photos_map.global.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 카카오맵 로컬 API 호출 보호 설정 클래스 (서킷 브레이커, 벌크헤드)
+ * - 서킷 브레이커: 실패/지연 호출 비율이 임계치를 넘으면 일정 시간 호출을 차단해서, 장애 중인 API 를 기다리느라 스레드가 묶이지 않도록 한다.
+ * - 벌크헤드: 동시에 진행 중인 호출 수를 제한하고, 한도를 넘으면 기다리지 않고 바로 거절한다.
+ * - 상태, 호출 결과, 거절 수는 Micrometer 메트릭으로 노출 (resilience4j.circuitbreaker.*, resilience4j.bulkhead.*, kakao.api.rejected)
+ */
+@Configuration
+public class KakaoResilienceConfig {
+    private static final String KAKAO_LOCAL = "kakaoLocal";
+
+    @Bean
+    public CircuitBreaker kakaoLocalCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${kakao.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${kakao.resilience.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+            @Value("${kakao.resilience.slow-call-duration-ms:2000}") long slowCallDurationMs,
+            @Value("${kakao.resilience.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${kakao.resilience.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${kakao.resilience.wait-duration-in-open-state-ms:30000}") long waitDurationInOpenStateMs,
+            @Value("${kakao.resilience.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMs))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                // 통신 오류, 5xx 응답, 응답 시간 초과(kakao.api.timeout-ms)만 실패로 기록
+                .recordExceptions(WebClientException.class, RestClientException.class, TimeoutException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(KAKAO_LOCAL);
+        Counter rejected = rejectedCounter(meterRegistry, "circuit_breaker");
+        circuitBreaker.getEventPublisher().onCallNotPermitted(event -> rejected.increment());
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead kakaoLocalBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${kakao.resilience.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${kakao.resilience.max-wait-ms:0}") long maxWaitMs) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMs))
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+
+        Bulkhead bulkhead = registry.bulkhead(KAKAO_LOCAL);
+        Counter rejected = rejectedCounter(meterRegistry, "bulkhead");
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+        return bulkhead;
+    }
+
+    private Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("kakao.api.rejected")
+                .tag("name", KAKAO_LOCAL)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,32 +1,71 @@
 package com.idea5.four_cut_photos_map.global.config;
 
 import com.idea5.four_cut_photos_map.global.error.RestTemplateResponseErrorHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HttpHost;
 import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
 /**
  * 다른 서버에 Rest 요청을 할 때 필요한 설정을 하는 클래스
+ * - 호스트(route)별 최대 커넥션 수를 설정 파일에서 지정하고, 최대 커넥션 수는 그 합으로 두어 호스트끼리 커넥션을 빼앗지 않도록 한다.
+ * - 커넥션 대기 시간(lease wait)과 풀 사용량은 Micrometer 메트릭으로 노출한다.
+ *   (http.client.pool.lease, http.client.pool.route.*, httpcomponents.httpclient.pool.*)
  */
 @Configuration
 public class RestTemplateConfig {
-    private final int READ_TIMEOUT = 5000;      // 읽기시간초과(ms)
-    private final int CONNECT_TIMEOUT = 5000;   // 연결시간초과(ms)
-    private final int MAX_CONN_TOTAL = 100;     // 최대 오픈되는 커넥션 수
-    private final int MAX_CONN_PER_ROUTE = 5;   // IP, 포트 1쌍에 수행할 커넥션 수
+    private static final String POOL_NAME = "kakao-oauth";
+    private static final HttpHost KAKAO_AUTH_HOST = new HttpHost("kauth.kakao.com", 443, "https"); // 카카오 로그인 (토큰)
+    private static final HttpHost KAKAO_API_HOST = new HttpHost("kapi.kakao.com", 443, "https");   // 카카오 사용자 정보
+
+    @Value("${http.client.read-timeout-ms:5000}")
+    private int readTimeout;            // 읽기시간초과(ms)
+    @Value("${http.client.connect-timeout-ms:5000}")
+    private int connectTimeout;         // 연결시간초과(ms)
+    @Value("${http.client.lease-timeout-ms:1000}")
+    private int leaseTimeout;           // 풀에서 커넥션을 얻기까지 대기시간초과(ms)
+    @Value("${http.client.idle-timeout-seconds:30}")
+    private long idleTimeoutSeconds;    // 이 시간 동안 사용하지 않은 커넥션은 정리
+    @Value("${http.client.keep-alive-seconds:30}")
+    private long keepAliveSeconds;      // 서버가 Keep-Alive 시간을 주지 않을 때 커넥션 유지 시간
+    @Value("${http.client.max-per-route.default:5}")
+    private int defaultMaxPerRoute;     // 그 밖의 호스트에 수행할 커넥션 수
+    @Value("${http.client.max-per-route.kauth:10}")
+    private int kakaoAuthMaxPerRoute;   // kauth.kakao.com 에 수행할 커넥션 수
+    @Value("${http.client.max-per-route.kapi:10}")
+    private int kakaoApiMaxPerRoute;    // kapi.kakao.com 에 수행할 커넥션 수
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(MeterRegistry meterRegistry) {
         HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setReadTimeout(READ_TIMEOUT);
-        factory.setConnectTimeout(CONNECT_TIMEOUT);
+        factory.setReadTimeout(readTimeout);
+        factory.setConnectTimeout(connectTimeout);
+        // 풀이 가득 차면 읽기 시간 초과가 아니라 커넥션 대기 시간 초과로 빠르게 실패
+        factory.setConnectionRequestTimeout(leaseTimeout);
+
+        PoolingHttpClientConnectionManager connectionManager = connectionManager();
+        bindPoolMetrics(connectionManager, meterRegistry);
 
         HttpClient httpClient = HttpClientBuilder.create()
-                .setMaxConnTotal(MAX_CONN_TOTAL)
-                .setMaxConnPerRoute(MAX_CONN_PER_ROUTE)
+                .setConnectionManager(new TimedConnectionManager(connectionManager, meterRegistry, POOL_NAME))
+                .setKeepAliveStrategy(keepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS)
                 .build();
 
         factory.setHttpClient(httpClient);
@@ -36,4 +75,50 @@ public class RestTemplateConfig {
         restTemplate.setErrorHandler(new RestTemplateResponseErrorHandler());
         return restTemplate;
     }
-}
\ No newline at end of file
+
+    private PoolingHttpClientConnectionManager connectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setDefaultMaxPerRoute(defaultMaxPerRoute);
+        connectionManager.setMaxPerRoute(route(KAKAO_AUTH_HOST), kakaoAuthMaxPerRoute);
+        connectionManager.setMaxPerRoute(route(KAKAO_API_HOST), kakaoApiMaxPerRoute);
+        // 호스트별 한도의 합 + 그 밖의 호스트 몫
+        connectionManager.setMaxTotal(kakaoAuthMaxPerRoute + kakaoApiMaxPerRoute + defaultMaxPerRoute);
+        // 오래 쉬었던 커넥션은 재사용 전에 끊겼는지 확인
+        connectionManager.setValidateAfterInactivity(2000);
+        return connectionManager;
+    }
+
+    // HttpClient 가 요청마다 계산하는 route 와 같은 값 (https 면 secure)
+    private HttpRoute route(HttpHost host) {
+        return new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName()));
+    }
+
+    // 응답의 Keep-Alive 헤더를 따르고, 없으면 keepAliveSeconds 동안 유지
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        return (response, context) -> {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? keepAlive : TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+        };
+    }
+
+    private void bindPoolMetrics(PoolingHttpClientConnectionManager connectionManager, MeterRegistry meterRegistry) {
+        // 풀 전체 사용량
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        // 호스트별 사용량
+        for (HttpHost host : new HttpHost[]{KAKAO_AUTH_HOST, KAKAO_API_HOST}) {
+            HttpRoute route = route(host);
+            routeGauge(meterRegistry, connectionManager, route, "leased", PoolStats::getLeased);
+            routeGauge(meterRegistry, connectionManager, route, "available", PoolStats::getAvailable);
+            routeGauge(meterRegistry, connectionManager, route, "pending", PoolStats::getPending);
+            routeGauge(meterRegistry, connectionManager, route, "max", PoolStats::getMax);
+        }
+    }
+
+    private void routeGauge(MeterRegistry meterRegistry, PoolingHttpClientConnectionManager connectionManager,
+                            HttpRoute route, String state, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder("http.client.pool.route." + state, connectionManager, manager -> value.applyAsDouble(manager.getStats(route)))
+                .tag("pool", POOL_NAME)
+                .tag("host", route.getTargetHost().getHostName())
+                .register(meterRegistry);
+    }
+}
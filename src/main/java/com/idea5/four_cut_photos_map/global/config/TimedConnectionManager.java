@@ -0,0 +1,105 @@
+package com.idea5.four_cut_photos_map.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀에서 커넥션을 얻기까지 기다린 시간(lease wait)을 기록하는 HttpClientConnectionManager
+ * - 실제 풀 관리는 delegate 에 위임하고, requestConnection 으로 받은 요청의 대기 시간만 측정한다.
+ * - 메트릭: http.client.pool.lease{pool, host, result=acquired|timeout}
+ * - Timer 는 (host, result) 별로 처음 한 번만 등록하고 이후 요청에서는 재사용한다.
+ */
+class TimedConnectionManager implements HttpClientConnectionManager {
+    private static final String METRIC_NAME = "http.client.pool.lease";
+
+    private final HttpClientConnectionManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final String poolName;
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>(); // "host:result" -> Timer
+
+    TimedConnectionManager(HttpClientConnectionManager delegate, MeterRegistry meterRegistry, String poolName) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.poolName = poolName;
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ConnectionRequest request = delegate.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                String result = "acquired";
+                try {
+                    return request.get(timeout, timeUnit);
+                } catch (ConnectionPoolTimeoutException e) {
+                    result = "timeout";
+                    throw e;
+                } finally {
+                    timer(route, result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    private Timer timer(HttpRoute route, String result) {
+        String host = route.getTargetHost().getHostName();
+        return timers.computeIfAbsent(host + ":" + result, key -> Timer.builder(METRIC_NAME)
+                .tag("pool", poolName)
+                .tag("host", host)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    @Override
+    public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+        delegate.releaseConnection(conn, newState, validDuration, timeUnit);
+    }
+
+    @Override
+    public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context) throws IOException {
+        delegate.connect(conn, route, connectTimeout, context);
+    }
+
+    @Override
+    public void upgrade(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        delegate.upgrade(conn, route, context);
+    }
+
+    @Override
+    public void routeComplete(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        delegate.routeComplete(conn, route, context);
+    }
+
+    @Override
+    public void closeIdleConnections(long idletime, TimeUnit timeUnit) {
+        delegate.closeIdleConnections(idletime, timeUnit);
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        delegate.closeExpiredConnections();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+}
@@ -0,0 +1,55 @@
+package com.idea5.four_cut_photos_map.global.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 다른 서버에 논블로킹으로 요청할 때 필요한 설정을 하는 클래스
+ * - 응답을 기다리는 동안 스레드를 점유하지 않으므로, 여러 요청을 동시에 보내고 결과를 조합하는 경우에 사용한다.
+ * - 호스트마다 커넥션 풀을 따로 두고, 풀 크기와 유휴 커넥션 정리 주기는 설정 파일에서 지정한다. (http.client.*)
+ * - 풀 사용량과 커넥션 대기 시간은 Micrometer 메트릭으로 노출한다.
+ *   (reactor.netty.connection.provider.*{name=kakao-local}: total/active/idle/pending.connections, pending.connections.time)
+ */
+@Configuration
+public class WebClientConfig {
+    @Value("${http.client.read-timeout-ms:5000}")
+    private int readTimeout;            // 응답시간초과(ms)
+    @Value("${http.client.connect-timeout-ms:5000}")
+    private int connectTimeout;         // 연결시간초과(ms)
+    @Value("${http.client.lease-timeout-ms:1000}")
+    private int leaseTimeout;           // 풀에서 커넥션을 얻기까지 대기시간초과(ms)
+    @Value("${http.client.idle-timeout-seconds:30}")
+    private long idleTimeoutSeconds;    // 이 시간 동안 사용하지 않은 커넥션은 정리
+    @Value("${http.client.max-per-route.dapi:50}")
+    private int kakaoLocalMaxConnections; // dapi.kakao.com 에 수행할 커넥션 수
+
+    // 카카오맵 로컬 API(dapi.kakao.com) 호출용
+    @Bean
+    public WebClient kakaoLocalWebClient(WebClient.Builder webClientBuilder) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao-local")
+                .maxConnections(kakaoLocalMaxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(leaseTimeout))
+                .maxIdleTime(Duration.ofSeconds(idleTimeoutSeconds))
+                .evictInBackground(Duration.ofSeconds(idleTimeoutSeconds))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(readTimeout));
+
+        // webClientBuilder 는 애플리케이션 ObjectMapper 로 JSON 을 변환하도록 설정되어 있음
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -25,7 +25,8 @@ public enum ErrorCode {
     DUPLICATE_SHOP_TITLE(HttpStatus.CONFLICT, "409", "해당 상점은 이미 타이틀을 보유하고 있습니다."),
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "리뷰를 찾을 수 없습니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "회원을 찾을 수 없습니다."),
-    WRITER_DOES_NOT_MATCH(HttpStatus.BAD_REQUEST, "400", "작성자가 일치하지 않습니다.");
+    WRITER_DOES_NOT_MATCH(HttpStatus.BAD_REQUEST, "400", "작성자가 일치하지 않습니다."),
+    KAKAO_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "503", "카카오맵 API 를 일시적으로 사용할 수 없습니다.");
 
     private HttpStatus httpStatus;
     private String errorCode;
@@ -0,0 +1,104 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+/**
+ * 거리(m) -> 화면 표시용 문자열 변환
+ * - 1000m 미만: "123m"
+ * - 4~5자리: km 로 환산해서 정수면 "2km", 아니면 소수점 둘째 자리에서 반올림 "2.4km"
+ * - 6자리 이상: km 로 환산해서 소수점 첫째 자리에서 반올림 "232km"
+ * - 빈 문자열: "unknown"
+ * String.format 대신 정수 연산으로 스레드별 버퍼에 직접 쓰고, 결과 문자열 외에는 객체를 만들지 않는다.
+ * 결과는 기존 String.format 구현(formatLegacy)과 같다. (String.format 의 %.nf 는 HALF_UP 반올림)
+ */
+public final class DistanceFormatter {
+    private static final int MAX_FAST_LENGTH = 9; // int 범위를 넘지 않는 자릿수
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[16]);
+
+    private DistanceFormatter() {
+    }
+
+    /**
+     * 카카오맵 API 응답의 distance 문자열 변환
+     * @throws NumberFormatException 4자리 이상인데 숫자가 아닌 경우 (기존 구현과 동일)
+     */
+    public static String format(String distance) {
+        int length = distance.length();
+        if (length == 0) return "unknown"; // 공백일 시, 알 수없음으로 반환
+        if (length < 4) return distance.concat("m"); // distance -> m
+        if (length > MAX_FAST_LENGTH) return formatLegacy(distance);
+
+        int meters = 0;
+        for (int i = 0; i < length; i++) {
+            char c = distance.charAt(i);
+            if (c < '0' || c > '9') return formatLegacy(distance); // 부호 등은 기존 구현으로 처리
+            meters = meters * 10 + (c - '0');
+        }
+        return formatKm(meters, length);
+    }
+
+    // 거리(m) 변환, format(String.valueOf(meters)) 와 같음
+    public static String format(long meters) {
+        if (meters < 0 || meters > 999_999_999L) return format(String.valueOf(meters));
+        if (meters < 1000) return String.valueOf(meters).concat("m");
+        return formatKm((int) meters, digits((int) meters));
+    }
+
+    // length: 거리(m)의 자릿수 (앞에 0이 붙은 경우 포함, 4 이상)
+    private static String formatKm(int meters, int length) {
+        char[] buffer = BUFFER.get();
+        int pos;
+        if (length < 6) { // distance -> km
+            if (meters % 1000 == 0) {
+                pos = writeInt(buffer, 0, meters / 1000);
+            } else {
+                // 소수점 둘째 자리에서 반올림 (100m 단위)
+                int tenths = (meters + 50) / 100;
+                pos = writeInt(buffer, 0, tenths / 10);
+                buffer[pos++] = '.';
+                buffer[pos++] = (char) ('0' + tenths % 10);
+            }
+        } else {
+            // 소수점 첫째 자리에서 반올림
+            pos = writeInt(buffer, 0, (meters + 500) / 1000);
+        }
+        buffer[pos++] = 'k';
+        buffer[pos++] = 'm';
+        return new String(buffer, 0, pos);
+    }
+
+    // 0 이상의 정수를 buffer[pos] 부터 쓰고 다음 위치 반환
+    private static int writeInt(char[] buffer, int pos, int value) {
+        int end = pos + digits(value);
+        for (int i = end - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    // 기존 구현 (숫자가 아닌 입력, 벤치마크 비교용)
+    static String formatLegacy(String distance){
+        int length = distance.length();
+        if(distance.equals("")) // 공백일 시, 알 수없음으로 반환
+            return "unknown";
+        if(length < 4) // distance -> m
+            return distance + "m";
+        double dkm = Integer.parseInt(distance) / 1000.0; // km 환산한 값
+        if(length >= 4 && length < 6) { // distance -> km
+            if(dkm % 1 == 0)
+                return String.format("%.0fkm", dkm);
+            // 소수점 둘째 자리에서 반올림
+            return String.format("%.1fkm", dkm);
+        }
+        // 소수점 첫째 자리에서 반올림
+        return String.format("%.0fkm", dkm);
+    }
+}
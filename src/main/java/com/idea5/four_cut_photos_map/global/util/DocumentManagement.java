@@ -1,18 +1,35 @@
 package com.idea5.four_cut_photos_map.global.util;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class DocumentManagement {
     private Document[] documents;
+    private Meta meta;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Meta {
+        private boolean is_end; // 현재 페이지가 마지막 페이지인지 여부
+        private int pageable_count; // 노출 가능한 문서 수 (최대 45)
+        private int total_count; // 검색어에 검색된 문서 수
+    }
 
     @Builder
     @Getter
     @Setter
     @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Document{
         private String place_name; // 장소명
 
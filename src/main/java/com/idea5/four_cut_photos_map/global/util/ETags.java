@@ -0,0 +1,31 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ETag 생성 유틸
+ * - 응답을 만드는 데 쓰인 값(id, 수정 시각, 개수 등)을 이어 붙여 해시한 strong ETag 를 만든다.
+ * - 같은 값이면 같은 ETag 이므로 WebRequest.checkNotModified(eTag) 로 304 응답 여부를 판단할 수 있다.
+ */
+public final class ETags {
+    private static final char SEPARATOR = '|';
+
+    private ETags() {
+    }
+
+    // ex) "5d41402abc4b2a76b9719d911017c592"
+    public static String of(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (Object part : parts) {
+            sb.append(part).append(SEPARATOR);
+        }
+        return of(sb);
+    }
+
+    // 이어 붙인 값으로 ETag 생성 (값이 많을 때 호출부에서 직접 이어 붙임)
+    public static String of(CharSequence value) {
+        return "\"" + DigestUtils.md5DigestAsHex(value.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
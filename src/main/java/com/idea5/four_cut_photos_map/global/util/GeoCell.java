@@ -0,0 +1,45 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+import lombok.Getter;
+
+/**
+ * 위경도를 일정 크기(도)의 격자로 양자화한 셀
+ * - 가까운 좌표들이 같은 셀(key)을 가지므로 캐시 key 로 사용
+ */
+@Getter
+public class GeoCell {
+    private final int row; // 위도 방향 인덱스
+    private final int col; // 경도 방향 인덱스
+    private final double cellSize; // 셀 크기(도)
+
+    private GeoCell(int row, int col, double cellSize) {
+        this.row = row;
+        this.col = col;
+        this.cellSize = cellSize;
+    }
+
+    public static GeoCell of(double longitude, double latitude, double cellSize) {
+        return new GeoCell((int) Math.floor(latitude / cellSize), (int) Math.floor(longitude / cellSize), cellSize);
+    }
+
+    // 셀 중심 경도
+    public double getLongitude() {
+        return (col + 0.5) * cellSize;
+    }
+
+    // 셀 중심 위도
+    public double getLatitude() {
+        return (row + 0.5) * cellSize;
+    }
+
+    // 셀 중심에서 꼭짓점까지의 거리(m), 셀 안의 어떤 좌표도 중심에서 이 거리 이내
+    public int getHalfDiagonal() {
+        double halfLat = cellSize / 2 * GeoUtil.METERS_PER_DEGREE_LAT;
+        double halfLng = cellSize / 2 * GeoUtil.metersPerDegreeLng(getLatitude());
+        return (int) Math.ceil(Math.sqrt(halfLat * halfLat + halfLng * halfLng));
+    }
+
+    public String getKey() {
+        return row + ":" + col;
+    }
+}
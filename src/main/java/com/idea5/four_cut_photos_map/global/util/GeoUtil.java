@@ -0,0 +1,24 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+/**
+ * 위경도 좌표 계산 유틸
+ */
+public class GeoUtil {
+    public static final double EARTH_RADIUS = 6_371_008.8; // 지구 평균 반지름(m)
+    public static final double METERS_PER_DEGREE_LAT = 111_320.0; // 위도 1도당 거리(m)
+
+    // 두 좌표 사이의 거리(m), 하버사인 공식
+    public static double distance(double longitude1, double latitude1, double longitude2, double latitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLng = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 해당 위도에서 경도 1도당 거리(m)
+    public static double metersPerDegreeLng(double latitude) {
+        return METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(latitude));
+    }
+}
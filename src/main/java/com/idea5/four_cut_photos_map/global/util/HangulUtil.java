@@ -0,0 +1,53 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+/**
+ * 한글 초성 처리
+ * - 완성형 한글(가~힣)은 (초성 * 21 + 중성) * 28 + 종성 + 0xAC00 으로 구성되므로 나눗셈으로 초성을 구한다.
+ * - 초성은 호환용 자모(ㄱ, ㄲ, ㄴ ...)로 반환한다.
+ */
+public class HangulUtil {
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28; // 중성 수 * 종성 수
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 완성형 한글이면 초성, 아니면 그대로 반환 ex) '인' -> 'ㅇ', 'a' -> 'a'
+    public static char choseong(char c) {
+        if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) return c;
+        return CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    // 문자열의 한글을 초성으로 변환 ex) "인생네컷 1호점" -> "ㅇㅅㄴㅋ 1ㅎㅈ"
+    public static String choseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = choseong(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    // 초성으로 쓸 수 있는 자음인지 확인 (ㄱ~ㅎ 중 초성 19자)
+    public static boolean isChoseong(char c) {
+        if (c < 'ㄱ' || c > 'ㅎ') return false;
+        for (char choseong : CHOSEONG) {
+            if (choseong == c) return true;
+        }
+        return false;
+    }
+
+    // 초성이 하나라도 포함되어 있는지 확인 ex) "인생ㄴㅋ" -> true
+    public static boolean containsChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChoseong(text.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    // 검색어 한 글자가 대상 한 글자와 일치하는지 확인, 검색어가 초성이면 대상의 초성과 비교
+    public static boolean matches(char query, char target) {
+        return query == target || (isChoseong(query) && choseong(target) == query);
+    }
+}
@@ -0,0 +1,45 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.util.LinkedHashMap;
+
+/**
+ * 애플리케이션 전체에서 공유하는 JSON 변환기 모음
+ * - ObjectMapper 는 여기서 한 번만 설정하고 밖으로 꺼내지 않는다. (설정을 바꿔 공유 reader/writer 에 영향을 주지 않도록)
+ *   스프링 빈(JacksonConfig)은 같은 설정으로 복사한 인스턴스를 사용한다.
+ * - 자주 변환하는 타입은 ObjectReader/ObjectWriter 를 미리 만들어 둔다.
+ *   ObjectReader/ObjectWriter 는 불변이라 여러 스레드에서 공유해도 안전하고, 타입별 (역)직렬화기를 다시 찾지 않는다.
+ * - 설정이 다른 변환이 필요하면 reader/writer 의 with(), without() 으로 새로 만든다.
+ */
+public final class JsonCodecs {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            // LocalDateTime 직렬화/역직렬화 오류 문제때문에 설정
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // 카카오맵 API 응답 (모르는 필드는 무시)
+    public static final ObjectReader DOCUMENT_MANAGEMENT_READER = MAPPER.readerFor(DocumentManagement.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    public static final ObjectWriter DOCUMENT_MANAGEMENT_WRITER = MAPPER.writerFor(DocumentManagement.class);
+    // String -> map(json)
+    public static final ObjectReader MAP_READER = MAPPER.readerFor(LinkedHashMap.class);
+    // String -> JsonNode
+    public static final ObjectReader TREE_READER = MAPPER.readerFor(JsonNode.class);
+    // 런타임 타입 기준 직렬화
+    public static final ObjectWriter WRITER = MAPPER.writer();
+
+    private JsonCodecs() {
+    }
+
+    // 같은 설정의 새 ObjectMapper, 설정을 바꿔도 공유 reader/writer 에는 영향 없음
+    public static ObjectMapper copyMapper() {
+        return MAPPER.copy();
+    }
+}
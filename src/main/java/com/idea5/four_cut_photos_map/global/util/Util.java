@@ -1,10 +1,7 @@
 package com.idea5.four_cut_photos_map.global.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.idea5.four_cut_photos_map.AppConfig;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
 import com.idea5.four_cut_photos_map.global.util.DocumentManagement.Document;
 import lombok.extern.slf4j.Slf4j;
@@ -17,16 +14,11 @@ import java.util.Map;
 @Slf4j
 public class Util {
 
-    private final static ObjectMapper mapper = new ObjectMapper();
-    private static ObjectMapper getObjectMapper() {
-        return (ObjectMapper) AppConfig.getContext().getBean("objectMapper");
-    }
-
     public static class json {
         // map(json) -> String 변환
         public static Object toStr(Map<String, Object> map) {
             try {
-                return getObjectMapper().writeValueAsString(map);
+                return JsonCodecs.WRITER.writeValueAsString(map);
             } catch (JsonProcessingException e) {
                 return null;
             }
@@ -35,7 +27,7 @@ public class Util {
         // String -> map(json) 변환
         public static Map<String, Object> toMap(String jsonStr) {
             try {
-                return getObjectMapper().readValue(jsonStr, LinkedHashMap.class);
+                return JsonCodecs.MAP_READER.readValue(jsonStr);
             } catch (JsonProcessingException e) {
                 return null;
             }
@@ -67,21 +59,9 @@ public class Util {
     }
 
 
+    // 거리(m) -> "123m", "2.4km", "232km" (자세한 규칙은 DistanceFormatter)
     public static String distanceFormatting(String distance){
-        int length = distance.length();
-        if(distance.equals("")) // 공백일 시, 알 수없음으로 반환
-            return "unknown";
-        if(length < 4) // distance -> m
-            return distance + "m";
-        double dkm = Integer.parseInt(distance) / 1000.0; // km 환산한 값
-        if(length >= 4 && length < 6) { // distance -> km
-            if(dkm % 1 == 0)
-                return String.format("%.0fkm", dkm);
-            // 소수점 둘째 자리에서 반올림
-            return String.format("%.1fkm", dkm);
-        }
-        // 소수점 첫째 자리에서 반올림
-        return String.format("%.0fkm", dkm);
+        return DistanceFormatter.format(distance);
     }
 
 
@@ -119,11 +99,10 @@ public class Util {
     }
 
     public static List<KakaoResponseDto> jackson2(String body, String brandName){
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         ArrayList<KakaoResponseDto> list = new ArrayList<>();
         try{
-
-            DocumentManagement documentManagement = mapper.readValue(body, DocumentManagement.class);
+            // 공유 ObjectMapper 의 설정을 바꾸지 않고, 모르는 필드를 무시하도록 미리 만든 reader 사용
+            DocumentManagement documentManagement = JsonCodecs.DOCUMENT_MANAGEMENT_READER.readValue(body);
             Document[] documents = documentManagement.getDocuments();
             for (Document document : documents) {
                 String phone = document.getPhone();
@@ -146,10 +125,9 @@ public class Util {
 
         ArrayList<KakaoResponseDto> list = new ArrayList<>();
         try{
-            JsonNode root = mapper.readTree(body);
-            ArrayList<Object> lists = mapper.treeToValue(root.path("documents"), ArrayList.class);
-            for (Object obj : lists) {
-                Map<String, String> map = mapper.convertValue(obj, Map.class);
+            JsonNode root = JsonCodecs.TREE_READER.readTree(body);
+            for (JsonNode document : root.path("documents")) {
+                Map<String, String> map = JsonCodecs.MAP_READER.readValue(document);
 
                 String distance = distanceFormatting(map.get("distance"));
                 String addressName = map.get("address_name");
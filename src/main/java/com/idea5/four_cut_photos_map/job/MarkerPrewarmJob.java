@@ -0,0 +1,96 @@
+package com.idea5.four_cut_photos_map.job;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShop;
+import com.idea5.four_cut_photos_map.domain.shop.service.ShopService;
+import com.idea5.four_cut_photos_map.domain.shop.service.kakao.KakaoSearchCache;
+import com.idea5.four_cut_photos_map.domain.shop.service.kakao.KakaoSearchCache.CellStats;
+import com.idea5.four_cut_photos_map.global.util.GeoCell;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 핫스팟 셀의 마커 조회 결과를 미리 적재하는 작업
+ * - 배포 직후나 출근 시간처럼 요청이 몰리는 지역이 빈 캐시로 카카오맵 API 를 호출하지 않도록,
+ *   설정한 좌표가 속한 셀을 카카오 검색 캐시 만료(kakao.cache.ttl-seconds) 전에 주기적으로 갱신한다.
+ * - 핫스팟 셀은 셀별 캐시 적중률을 집계한다. (kakao.cache.hotspot 메트릭, 갱신할 때마다 로그)
+ *   적재는 캐시 조회를 거치지 않으므로 적중률에는 실제 요청만 집계된다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "shop.marker.prewarm.enabled", havingValue = "true")
+public class MarkerPrewarmJob {
+    private final ShopService shopService;
+    private final KakaoSearchCache kakaoSearchCache;
+
+    private final Map<String, GeoCell> hotspots = new LinkedHashMap<>(); // 셀 key -> 셀 (같은 셀 좌표는 한 번만)
+
+    public MarkerPrewarmJob(ShopService shopService,
+                            KakaoSearchCache kakaoSearchCache,
+                            MeterRegistry meterRegistry,
+                            @Value("${shop.marker.prewarm.hotspots:}") String hotspots) {
+        this.shopService = shopService;
+        this.kakaoSearchCache = kakaoSearchCache;
+
+        for (GeoCell cell : parseHotspots(hotspots)) {
+            if (this.hotspots.putIfAbsent(cell.getKey(), cell) != null) continue;
+
+            CellStats stats = kakaoSearchCache.track(cell);
+            Gauge.builder("kakao.cache.hotspot.hit_ratio", stats, CellStats::getHitRatio)
+                    .tag("cell", cell.getKey())
+                    .register(meterRegistry);
+            FunctionCounter.builder("kakao.cache.hotspot", stats, CellStats::getHitCount)
+                    .tag("cell", cell.getKey())
+                    .tag("result", "hit")
+                    .register(meterRegistry);
+            FunctionCounter.builder("kakao.cache.hotspot", stats, CellStats::getMissCount)
+                    .tag("cell", cell.getKey())
+                    .tag("result", "miss")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${shop.marker.prewarm.initial-delay-ms:10000}", fixedDelayString = "${shop.marker.prewarm.interval-ms:480000}")
+    public void prewarm() {
+        int warmed = 0;
+        for (GeoCell cell : hotspots.values()) {
+            try {
+                int count = shopService.prewarmMarkers(new RequestShop(cell.getLongitude(), cell.getLatitude()));
+                CellStats stats = kakaoSearchCache.getCellStats().get(cell.getKey());
+                log.debug("핫스팟 마커 적재, cell={}, markers={}, hit={}, miss={}",
+                        cell.getKey(), count, stats.getHitCount(), stats.getMissCount());
+                warmed++;
+            } catch (RuntimeException e) {
+                log.warn("핫스팟 마커 적재 실패, cell={}, message={}", cell.getKey(), e.getMessage());
+            }
+        }
+        log.info("핫스팟 마커 적재 {}/{}셀", warmed, hotspots.size());
+    }
+
+    // "경도,위도;경도,위도" -> 좌표가 속한 카카오 검색 캐시 셀
+    private List<GeoCell> parseHotspots(String hotspots) {
+        List<GeoCell> cells = new ArrayList<>();
+        for (String hotspot : hotspots.split(";")) {
+            if (hotspot.isBlank()) continue;
+            String[] coordinates = hotspot.split(",");
+            try {
+                double longitude = Double.parseDouble(coordinates[0].trim());
+                double latitude = Double.parseDouble(coordinates[1].trim());
+                cells.add(kakaoSearchCache.cellOf(longitude, latitude));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("핫스팟 좌표 형식 오류, hotspot={}", hotspot);
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,64 @@
+package com.idea5.four_cut_photos_map.job;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.domain.shop.service.ShopService;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopAddressIndex;
+import com.idea5.four_cut_photos_map.domain.shop.service.kakao.KeywordSearchKakaoApi;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좌표가 없는 Shop 을 카카오맵 API 장소명 검색으로 찾아 좌표를 채우는 작업
+ * - 한 번에 20개씩 id 순으로 확인하고, 전체를 한 바퀴 확인하면 하루 뒤에 다시 시작한다. (카카오 API 할당량 보호)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "shop.geo.backfill-enabled", havingValue = "true")
+public class ShopLocationJob {
+    private final ShopRepository shopRepository;
+    private final ShopService shopService;
+    private final KeywordSearchKakaoApi keywordSearchKakaoApi;
+
+    private long lastShopId = 0; // 마지막으로 확인한 Shop id
+    private LocalDateTime nextRoundAt = LocalDateTime.MIN; // 다음 회차 시작 시각
+
+    @Scheduled(initialDelayString = "${shop.geo.backfill-interval-ms:600000}", fixedDelayString = "${shop.geo.backfill-interval-ms:600000}")
+    public void backfill() {
+        if (LocalDateTime.now().isBefore(nextRoundAt)) return;
+
+        List<Shop> shops = shopRepository.findTop20ByLatitudeIsNullAndIdGreaterThanOrderByIdAsc(lastShopId);
+        if (shops.isEmpty()) {
+            lastShopId = 0;
+            nextRoundAt = LocalDateTime.now().plusDays(1);
+            return;
+        }
+
+        int located = 0;
+        for (Shop shop : shops) {
+            lastShopId = shop.getId();
+            String address = ShopAddressIndex.normalize(shop.getRoadAddressName());
+            try {
+                List<KakaoResponseDto> places = keywordSearchKakaoApi.searchByPlaceName(shop.getPlaceName());
+                for (KakaoResponseDto place : places) {
+                    if (address != null && address.equals(ShopAddressIndex.normalize(place.getRoadAddressName()))) {
+                        shopService.saveLocation(shop.getId(), place.getX(), place.getY(), place.getPhone());
+                        located++;
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Shop 좌표 조회 실패, shopId={}, message={}", shop.getId(), e.getMessage());
+            }
+        }
+        log.info("Shop 좌표 보정 {}/{}건, lastShopId={}", located, shops.size(), lastShopId);
+    }
+}
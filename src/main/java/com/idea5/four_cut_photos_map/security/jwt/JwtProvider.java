@@ -1,9 +1,10 @@
 package com.idea5.four_cut_photos_map.security.jwt;
 
+import com.idea5.four_cut_photos_map.security.jwt.dto.JwtClaims;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
@@ -25,7 +26,6 @@ import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.REFRESH_T
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
     @Value("${jwt.atk.expiration}")
     private long accessTokenValidationSecond; // accessToken 유효기간(30분)
@@ -34,6 +34,16 @@ public class JwtProvider {
     private long refreshTokenValidationSecond;    // accessToken 유효기간(1달)
 
     private final SecretKey jwtSecretKey;   // 비밀키
+    private final JwtParser jwtParser;      // 서명 검증용 파서, 불변 객체라서 여러 스레드에서 공유
+    private final VerifiedTokenCache verifiedTokenCache; // 검증된 토큰 캐시
+
+    public JwtProvider(SecretKey jwtSecretKey, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtSecretKey = jwtSecretKey;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(jwtSecretKey)  // 비밀키
+                .build();
+    }
 
     private SecretKey getSecretKey() {
         return jwtSecretKey;
@@ -75,43 +85,43 @@ public class JwtProvider {
         return generateToken(memberId, authorities, REFRESH_TOKEN.getName(), refreshTokenValidationSecond);
     }
 
+    /**
+     * JWT 파싱 및 서명 검증 (실패시 JwtException)
+     * - 한 요청에서 id, 토큰 타입, 유효기간이 모두 필요하면 이 결과를 재사용한다. (검증 1번)
+     * - 이미 검증한 토큰은 만료 전까지 캐시된 결과를 사용한다. (서명 검증 생략)
+     */
+    public JwtClaims parse(String token) {
+        JwtClaims claims = verifiedTokenCache.get(token);
+        if (claims != null) return claims;
+
+        claims = JwtClaims.from(jwtParser.parseClaimsJws(token).getBody());
+        verifiedTokenCache.put(token, claims);
+        return claims;
+    }
+
+    // 검증된 토큰 캐시에서 제거 (블랙리스트 등록 시)
+    public void invalidate(String token) {
+        verifiedTokenCache.evict(token);
+    }
+
     // JWT Access JwtToken 검증
     public boolean verify(String accessToken) {
-        Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())  // 비밀키
-                .build()
-                .parseClaimsJws(accessToken);   // 파싱 및 검증(실패시 에러)
+        parse(accessToken);   // 파싱 및 검증(실패시 에러)
         return true;
     }
 
-    // accessToken 으로부터 Claim 정보 얻기
-    private Claims parseClaims(String accessToken) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody();
-        log.info(claims.toString());
-        return claims;
-    }
-
     // Claims 에서 id 조회
     public Long getId(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-        // java.lang.Integer cannot be cast to java.lang.Long 오류해결
-        return ((Number) claims.get("id")).longValue();
+        return parse(accessToken).getId();
     }
 
     // Claims 에서 TokenType 조회
     public String getTokenType(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-        return claims.get("token_type").toString();
+        return parse(accessToken).getTokenType();
     }
 
     // Claims 에서 남은 유효기간 조회
     public Long getExpiration(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-        // 남은 유효기간 = 만료일시 - 현재일시
-        return claims.getExpiration().getTime() - new Date().getTime();
+        return parse(accessToken).getRemainingMillis();
     }
 }
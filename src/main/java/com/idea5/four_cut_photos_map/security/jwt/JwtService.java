@@ -1,9 +1,13 @@
 package com.idea5.four_cut_photos_map.security.jwt;
 
+import com.idea5.four_cut_photos_map.domain.member.dto.MemberProfile;
 import com.idea5.four_cut_photos_map.domain.member.entity.Member;
+import com.idea5.four_cut_photos_map.domain.member.service.MemberProfileCache;
 import com.idea5.four_cut_photos_map.global.common.RedisDao;
+import com.idea5.four_cut_photos_map.security.jwt.dto.JwtClaims;
 import com.idea5.four_cut_photos_map.security.jwt.dto.response.AccessToken;
 import com.idea5.four_cut_photos_map.security.jwt.dto.response.JwtToken;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * redis 를 이용하는 jwt 서비스(토큰 발급/재발급, 블랙리스트 검사)
@@ -24,6 +29,8 @@ import java.util.Collection;
 public class JwtService {
     private final JwtProvider jwtProvider;
     private final RedisDao redisDao;
+    private final TokenBlacklist tokenBlacklist;
+    private final MemberProfileCache memberProfileCache;
 
     // accessToken, refreshToken 발급
     @Transactional
@@ -57,9 +64,49 @@ public class JwtService {
                 .build();
     }
 
+    /**
+     * 인증 객체로 쓸 Member 조회(id, nickname)
+     * - 회원 프로필 캐시에 있으면 nickname 은 캐시 값을 쓰고, 블랙리스트만 필요할 때 Redis 에서 확인
+     * - 캐시에 없으면 accessToken 의 블랙리스트 등록 여부와 nickname 을 Redis 에 한 번에 조회(MGET)
+     * - 로컬 필터에 없는 토큰, refreshToken 은 블랙리스트를 확인하지 않음
+     * @throws JwtException 블랙리스트에 등록된 accessToken
+     */
+    public Member getAuthenticatedMember(String token, JwtClaims claims) {
+        MemberProfile profile = memberProfileCache.getIfPresent(claims.getId());
+        if (profile != null) {
+            if (claims.isAccessToken() && isBlackList(token)) {
+                throw new JwtException("유효하지 않은 토큰입니다.");
+            }
+            return Member.builder()
+                    .id(profile.getId())
+                    .nickname(profile.getNickname())
+                    .build();
+        }
+
+        String nicknameKey = "member:" + claims.getId() + ":nickname";
+        String nickname;
+        if (claims.isAccessToken() && tokenBlacklist.mightContain(token)) {
+            List<String> values = redisDao.multiGetValues(List.of(TokenBlacklist.KEY_PREFIX + token, nicknameKey));
+            if (values.get(0) != null) {
+                throw new JwtException("유효하지 않은 토큰입니다.");
+            }
+            nickname = values.get(1);
+        } else {
+            nickname = redisDao.getValues(nicknameKey);
+        }
+        return Member.builder()
+                .id(claims.getId())
+                .nickname(nickname)
+                .build();
+    }
+
     // accessToken 이 블랙리스트로 등록되었는지 검증
     public Boolean isBlackList(String accessToken) {
-        String isLogout = redisDao.getValues("jwt_black_list:" + accessToken);
+        // 로컬 필터에 없으면 블랙리스트에 없는 토큰이므로 Redis 조회 생략
+        if (!tokenBlacklist.mightContain(accessToken)) {
+            return false;
+        }
+        String isLogout = redisDao.getValues(TokenBlacklist.KEY_PREFIX + accessToken);
         return isLogout == null ? false : true;
     }
 }
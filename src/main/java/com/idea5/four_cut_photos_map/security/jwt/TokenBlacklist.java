@@ -0,0 +1,160 @@
+package com.idea5.four_cut_photos_map.security.jwt;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.idea5.four_cut_photos_map.global.common.RedisDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 블랙리스트(로그아웃, 회원 탈퇴)에 등록된 accessToken 의 블룸 필터 (서버별 메모리)
+ * - 인증이 필요한 모든 요청이 Redis 블랙리스트를 조회하지 않도록, 필터에 없는 토큰은 Redis 조회 없이 통과시킨다.
+ *   블룸 필터는 "없음"을 잘못 판단하지 않으므로 등록된 토큰을 놓치지 않고, 필터에 있다고 나오면 Redis 에서 다시 확인한다.
+ * - 토큰 원문 대신 SHA-256 해시를 보관하고, 등록할 때 Redis pub/sub 으로 다른 서버의 필터에도 반영한다.
+ * - 서버 시작 시, 이후 주기적으로 Redis 의 블랙리스트 key 로 필터를 다시 만든다. (만료된 토큰 제거, 놓친 메시지 보완)
+ *   첫 적재 전이나 적재에 실패한 동안에는 모든 토큰을 Redis 에서 확인한다.
+ * - pub/sub 은 연결이 끊긴 동안의 메시지를 다시 보내주지 않으므로, 구독이 해제되거나 다시 구독되면
+ *   필터를 다시 만들 때까지 모든 토큰을 Redis 에서 확인한다.
+ *   주기적인 재적재 간격은 accessToken 유효 시간(30분)보다 짧게 둔다. (놓친 토큰이 만료 전에 필터에 반영되도록)
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener, SubscriptionListener {
+    public static final String KEY_PREFIX = "jwt_black_list:";
+    private static final String CHANNEL = "jwt_black_list";
+    private static final double FPP = 0.001; // 오탐률 (필터에 있다고 나왔지만 실제로는 없는 비율)
+
+    private final RedisDao redisDao;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int expectedInsertions;
+
+    private final Object lock = new Object();
+    private volatile BloomFilter<CharSequence> filter;
+    private volatile boolean ready = false;
+    private BloomFilter<CharSequence> pending; // 다시 만드는 중인 필터, 그 사이 등록된 토큰도 함께 반영
+    private final Object rebuildLock = new Object(); // 재적재는 한 번에 하나씩
+    // 구독이 끊길 때마다 증가, 재적재 중에 끊겼으면 적재가 끝나도 ready 로 바꾸지 않음 (다음 재적재에서 반영)
+    private final AtomicLong disconnects = new AtomicLong();
+
+    public TokenBlacklist(RedisDao redisDao,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${jwt.blacklist.expected-insertions:100000}") int expectedInsertions) {
+        this.redisDao = redisDao;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.filter = newFilter();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 블랙리스트에 등록되었을 수 있는 토큰인지 확인, false 이면 등록되지 않은 토큰
+    public boolean mightContain(String accessToken) {
+        return !ready || filter.mightContain(TokenDigest.sha256(accessToken));
+    }
+
+    // Redis 블랙리스트에 등록한 토큰을 필터에 추가하고 다른 서버에 전파
+    public void add(String accessToken) {
+        String hash = TokenDigest.sha256(accessToken);
+        put(hash);
+        try {
+            redisDao.publish(CHANNEL, hash);
+        } catch (RuntimeException e) {
+            // 다른 서버의 필터에는 다음 재적재 때 반영됨
+            log.warn("블랙리스트 전파 실패, message={}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 구독 확인 (첫 구독, 연결이 끊긴 뒤 다시 구독) -> 구독 전에 등록된 토큰을 놓쳤을 수 있으므로 필터를 다시 만듦
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (!isChannel(channel)) return;
+        disconnect();
+        // 구독 알림 스레드에서 Redis 를 조회하지 않도록 다른 스레드에서 적재
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    // 구독 해제 -> 다시 구독해서 재적재할 때까지 Redis 에서 확인
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        if (!isChannel(channel)) return;
+        disconnect();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jwt.blacklist.rebuild-interval-ms:300000}", fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long loadedDisconnects = disconnects.get();
+            synchronized (lock) {
+                pending = newFilter();
+            }
+            try {
+                List<String> keys = redisDao.scanKeys(KEY_PREFIX + "*");
+                for (String key : keys) {
+                    put(TokenDigest.sha256(key.substring(KEY_PREFIX.length())));
+                }
+                synchronized (lock) {
+                    filter = pending;
+                    pending = null;
+                    ready = disconnects.get() == loadedDisconnects;
+                }
+                log.info("블랙리스트 필터 적재, size={}", keys.size());
+            } catch (RuntimeException e) {
+                synchronized (lock) {
+                    pending = null;
+                    ready = false;
+                }
+                log.warn("블랙리스트 필터 적재 실패, Redis 에서 직접 확인, message={}", e.getMessage());
+            }
+        }
+    }
+
+    private void disconnect() {
+        synchronized (lock) {
+            disconnects.incrementAndGet();
+            ready = false;
+        }
+        log.warn("블랙리스트 구독 변경, 필터를 다시 만들 때까지 Redis 에서 직접 확인");
+    }
+
+    private boolean isChannel(byte[] channel) {
+        return Arrays.equals(channel, CHANNEL.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void put(String hash) {
+        synchronized (lock) {
+            filter.put(hash);
+            if (pending != null) {
+                pending.put(hash);
+            }
+        }
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.US_ASCII), expectedInsertions, FPP);
+    }
+}
@@ -0,0 +1,28 @@
+package com.idea5.four_cut_photos_map.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 메모리에 보관할 토큰 해시 (SHA-256, Base64)
+ */
+public final class TokenDigest {
+    // MessageDigest 는 스레드 안전하지 않으므로 스레드별로 생성
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    public static String sha256(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
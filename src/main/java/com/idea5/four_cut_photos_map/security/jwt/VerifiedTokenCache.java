@@ -0,0 +1,56 @@
+package com.idea5.four_cut_photos_map.security.jwt;
+
+import com.idea5.four_cut_photos_map.global.cache.LocalCache;
+import com.idea5.four_cut_photos_map.security.jwt.dto.JwtClaims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 캐시 (서버별 메모리)
+ * - 같은 accessToken 으로 반복 요청할 때 HS512 서명 검증, JSON 파싱을 생략하기 위함
+ * - key 는 토큰 원문 대신 SHA-256 해시, 토큰 만료 시각에 함께 만료되고 최대 개수를 넘으면 LRU 로 제거
+ * - 로그아웃, 회원 탈퇴로 블랙리스트에 등록한 토큰은 바로 제거한다. (다른 서버의 캐시는 남아 있어도 필터의 블랙리스트 검증으로 차단됨)
+ * - jwt.verified-cache.max-size 가 0 이면 사용하지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+    private final boolean enabled;
+    private final LocalCache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this.enabled = maxSize > 0;
+        this.cache = new LocalCache<>(Math.max(maxSize, 0));
+
+        FunctionCounter.builder("jwt.verified_cache", cache, LocalCache::getHitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.verified_cache", cache, LocalCache::getMissCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.verified_cache.evictions", cache, LocalCache::getEvictionCount)
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified_cache.size", cache, LocalCache::size)
+                .register(meterRegistry);
+    }
+
+    // 검증된 클레임 조회, 없거나 토큰이 만료되었으면 null
+    public JwtClaims get(String token) {
+        if (!enabled) return null;
+        return cache.get(TokenDigest.sha256(token));
+    }
+
+    // 검증된 클레임 저장, 토큰 만료 시각에 만료
+    public void put(String token, JwtClaims claims) {
+        if (!enabled) return;
+        cache.put(TokenDigest.sha256(token), claims, claims.getExpiration());
+    }
+
+    // 토큰 제거 (블랙리스트 등록 시)
+    public void evict(String token) {
+        if (!enabled) return;
+        cache.remove(TokenDigest.sha256(token));
+    }
+}
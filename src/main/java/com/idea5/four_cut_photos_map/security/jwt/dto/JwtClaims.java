@@ -0,0 +1,47 @@
+package com.idea5.four_cut_photos_map.security.jwt.dto;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.ACCESS_TOKEN;
+import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.REFRESH_TOKEN;
+
+/**
+ * 서명 검증을 마친 JWT 의 클레임 (불변)
+ * - 토큰을 한 번만 파싱하고 id, 토큰 타입, 만료 시각을 꺼내 쓰기 위함
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtClaims {
+    private final Long id; // 회원 id
+    private final String tokenType; // 토큰 타입(ATK, RTK)
+    private final long expiration; // 만료 시각(epoch ms)
+
+    public static JwtClaims from(Claims claims) {
+        Object id = claims.get("id");
+        Object tokenType = claims.get("token_type");
+        if (!(id instanceof Number) || tokenType == null || claims.getExpiration() == null) {
+            throw new MalformedJwtException("필수 클레임이 없는 토큰입니다.");
+        }
+        // java.lang.Integer cannot be cast to java.lang.Long 오류해결
+        return new JwtClaims(((Number) id).longValue(), tokenType.toString(), claims.getExpiration().getTime());
+    }
+
+    public boolean isAccessToken() {
+        return ACCESS_TOKEN.getName().equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TOKEN.getName().equals(tokenType);
+    }
+
+    // 남은 유효기간(ms) = 만료일시 - 현재일시
+    public long getRemainingMillis() {
+        return expiration - System.currentTimeMillis();
+    }
+}
@@ -2,9 +2,9 @@ package com.idea5.four_cut_photos_map.security.jwt.filter;
 
 import com.idea5.four_cut_photos_map.domain.member.entity.Member;
 import com.idea5.four_cut_photos_map.domain.member.service.MemberService;
-import com.idea5.four_cut_photos_map.global.common.RedisDao;
 import com.idea5.four_cut_photos_map.security.jwt.JwtProvider;
 import com.idea5.four_cut_photos_map.security.jwt.JwtService;
+import com.idea5.four_cut_photos_map.security.jwt.dto.JwtClaims;
 import com.idea5.four_cut_photos_map.security.jwt.dto.MemberContext;
 import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +14,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -24,9 +23,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
-import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.ACCESS_TOKEN;
-import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.REFRESH_TOKEN;
-
 /**
  * JWT 인증처리 필터
  * - OncePerRequestFilter: 한 요청에 대해 딱 한 번만 실행하는 필터(한 요청에 대해서 redirect 로 인해 불필요하게 인증필터를 n번 이상 거치는 다중인증처리 상황을 해결하기 위함)
@@ -42,7 +38,6 @@ import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.REFRESH_T
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
     private final JwtService jwtService;
-    private final RedisDao redisDao;
     private final String BEARER_TOKEN_PREFIX = "Bearer ";
     private final MemberService memberService;
 
@@ -55,42 +50,27 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     // 토큰 유효성 검증 후 인증(로그인)처리
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        log.info("JwtAuthorizationFilter doFilterInternal()");
+        log.debug("JwtAuthorizationFilter doFilterInternal()");
         String token = getJwtToken(request);
-        // 1. 토큰이 유효한지 검증
-        if(StringUtils.hasText(token) && jwtProvider.verify(token)) {
-            Long memberId = jwtProvider.getId(token);
-            String tokenType = jwtProvider.getTokenType(token);
+        if(StringUtils.hasText(token)) {
+            // 1. 토큰 파싱 및 서명 검증(1번만, 실패시 JwtException), 이후 클레임은 파싱 결과를 재사용
+            JwtClaims claims = jwtProvider.parse(token);
             String requestURI = request.getRequestURI();
             // 2. 올바른 토큰 타입(ATK, RTK)으로 요청했는지 검증(아래 2가지 예외)
             // 2-1. accessToken 재발급 요청에 accessToken 을 담아 요청한 경우
             // 2-2. accessToken 재발급 외의 요청에 refreshToken 을 담아 요청한 경우
-            if(tokenType.equals(ACCESS_TOKEN.getName()) && requestURI.equals(atkReissueUri)
-            || tokenType.equals(REFRESH_TOKEN.getName()) && !requestURI.equals(atkReissueUri)) {
-                throw new JwtException("유효하지 않은 토큰입니다.");
-            }
-            // 3. 해당 accessToken 이 블랙리스트로 redis 에 등록되었는지 검증
-            if(tokenType.equals(ACCESS_TOKEN.getName()) && jwtService.isBlackList(token)) {
+            if(claims.isAccessToken() && requestURI.equals(atkReissueUri)
+            || claims.isRefreshToken() && !requestURI.equals(atkReissueUri)) {
                 throw new JwtException("유효하지 않은 토큰입니다.");
             }
-
-            StopWatch stopWatch = new StopWatch();
-            stopWatch.start();
-
-            // 4. jwt 에서 id 를 얻고 Redis 에서 nickname 을 얻어서 Member 객체 생성
-            Member member = Member.builder()
-                    .id(memberId)
-                    .nickname(redisDao.getValues("member:" + memberId + ":nickname"))
-                    .build();
+            // 3. 해당 accessToken 이 블랙리스트로 redis 에 등록되었는지 검증하고(실패시 JwtException),
+            // jwt 의 id 와 Redis 의 nickname 으로 Member 객체 생성 (Redis 1번 조회)
+            Member member = jwtService.getAuthenticatedMember(token, claims);
 //            Member member = memberService.findById(memberId);
 
-            stopWatch.stop();
-            log.info(stopWatch.prettyPrint());
-            log.info(String.valueOf(stopWatch.getTotalTimeSeconds()));
-
             // 5. 2차 체크(해당 엑세스 토큰이 화이트 리스트에 포함되는지 검증) -> 탈취된 토큰 무효화
             if(member != null) {
-                log.info("---Before forceAuthentication()---");
+                log.debug("---Before forceAuthentication()---");
                 forceAuthentication(member);
             }
         }
@@ -108,7 +88,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     // Spring Security 에 유저의 인증 정보 등록(컨트롤러 단에서 @AuthenticationPrincipal 로 인증 객체를 얻기 위함)
     private void forceAuthentication(Member member) {
-        log.info(member.getId().toString());
+        log.debug("authenticated memberId={}", member.getId());
         // 1. Member 를 기반으로 User 를 상속한 MemberContext 객체 생성
         MemberContext memberContext = new MemberContext(member);
         // 2. Authentication 객체 생성
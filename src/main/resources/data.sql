@@ -6,6 +6,12 @@ UPDATE shop SET favorite_cnt = 0 WHERE favorite_cnt IS NULL;
 -- Shop import 데이터에서 '서울특별시'를 '서울'로 변경
 UPDATE shop SET road_address_name= REPLACE(road_address_name,'서울특별시','서울');
 
+-- 상점명으로 브랜드 저장 (브랜드별 조회는 brand 컬럼 인덱스 사용, ShopBrand 참고)
+UPDATE shop SET brand = '하루필름' WHERE brand IS NULL AND place_name LIKE '하루필름%';
+UPDATE shop SET brand = '인생네컷' WHERE brand IS NULL AND place_name LIKE '인생네컷%';
+UPDATE shop SET brand = '포토이즘박스' WHERE brand IS NULL AND place_name LIKE '포토이즘박스%';
+UPDATE shop SET brand = '픽닷' WHERE brand IS NULL AND place_name LIKE '픽닷%';
+
 /*
 INSERT INTO SHOP(create_date, modify_date, road_address_name, place_name, brand, favorite_cnt)VALUES (NOW(), NOW(), '서울 성동구 서울숲2길 48', '인생네컷 서울숲노가리마트로드점', '인생네컷', 0);
 INSERT INTO SHOP(create_date, modify_date, road_address_name, place_name, brand, favorite_cnt) VALUES(NOW(), NOW(), '서울 성동구 서울숲2길 17-2', '포토이즘박스 성수점', '포토이즘박스', 0);
@@ -0,0 +1,56 @@
+package com.idea5.four_cut_photos_map.domain.member.service;
+
+import com.idea5.four_cut_photos_map.domain.member.dto.MemberProfile;
+import com.idea5.four_cut_photos_map.domain.member.dto.request.MemberUpdateReq;
+import com.idea5.four_cut_photos_map.domain.member.entity.Member;
+import com.idea5.four_cut_photos_map.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MemberProfileCacheTest {
+
+    @Autowired
+    private MemberProfileCache memberProfileCache;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("처음 조회한 프로필을 캐시하고, 닉네임을 수정하면 무효화")
+    void evictOnUpdateNickname() {
+        // given
+        Member member = memberRepository.save(Member.builder().kakaoId(1000L).nickname("네컷").build());
+        MemberProfile before = memberProfileCache.get(member.getId());
+        MemberProfile cached = memberProfileCache.getIfPresent(member.getId());
+
+        // when
+        MemberUpdateReq memberUpdateReq = new MemberUpdateReq();
+        memberUpdateReq.setNickname("인생네컷");
+        memberService.updateNickname(member.getId(), memberUpdateReq);
+        MemberProfile evicted = memberProfileCache.getIfPresent(member.getId());
+        MemberProfile after = memberProfileCache.get(member.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(before.getNickname()).isEqualTo("네컷"),
+                () -> assertThat(before.getMainMemberTitle()).isNull(),
+                () -> assertThat(before.getMemberTitleCnt()).isZero(),
+                () -> assertThat(cached).isSameAs(before),
+                () -> assertThat(evicted).isNull(),
+                () -> assertThat(after.getNickname()).isEqualTo("인생네컷")
+        );
+    }
+}
@@ -140,6 +140,40 @@ class ShopControllerTest {
     }
 
 
+    @Test
+    @DisplayName("상점 상세보기, ETag 가 같으면 304 응답하고 상점이 바뀌면 새로 응답")
+    void 상점_상세보기_ETag() throws Exception {
+        // given
+        Shop shop = shopRepository.save(new Shop("인생네컷 홍대점", "서울 ~", 0));
+        String eTag = mockMvc.perform(get("/shops/%s".formatted(shop.getId())).param("distance", "3km"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        ResultActions notModified = mockMvc.perform(get("/shops/%s".formatted(shop.getId()))
+                .param("distance", "3km")
+                .header("If-None-Match", eTag));
+        ResultActions otherDistance = mockMvc.perform(get("/shops/%s".formatted(shop.getId()))
+                .param("distance", "1km")
+                .header("If-None-Match", eTag));
+
+        shop.setFavoriteCnt(1);
+        shopRepository.flush();
+        ResultActions modified = mockMvc.perform(get("/shops/%s".formatted(shop.getId()))
+                .param("distance", "3km")
+                .header("If-None-Match", eTag));
+
+        // then
+        notModified.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        otherDistance.andExpect(status().isOk());
+        modified.andExpect(status().isOk())
+                .andExpect(jsonPath("favoriteCnt").value(1))
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
+
 
     @DisplayName("2km 이내 마커 표시")
     @Test
@@ -0,0 +1,83 @@
+package com.idea5.four_cut_photos_map.domain.shop.service;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShopCluster;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopCluster;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopClusters;
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ShopClusterServiceTest {
+
+    @Autowired
+    private ShopClusterService shopClusterService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Test
+    @DisplayName("가까이 확대한 화면이면 클러스터 없이 개별 마커로 응답")
+    void markersOnCloseZoom() {
+        // given
+        saveShop("인생네컷 충남천안두정먹거리공원점", 127.1352, 36.8341);
+        saveShop("하루필름 두정점", 127.1350, 36.8340);
+        saveShop("인생네컷 천안안서점", 127.1620, 36.8330); // 화면 밖
+
+        // when
+        ResponseShopClusters result = shopClusterService.cluster(new RequestShopCluster(127.13, 36.83, 127.14, 36.84, null));
+        ResponseShopClusters brandResult = shopClusterService.cluster(new RequestShopCluster(127.13, 36.83, 127.14, 36.84, "하루필름"));
+
+        // then
+        assertAll(
+                () -> assertThat(result.isClustered()).isFalse(),
+                () -> assertThat(result.getClusters()).isEmpty(),
+                () -> assertThat(result.getMarkers()).hasSize(2),
+                () -> assertThat(brandResult.getMarkers()).hasSize(1),
+                () -> assertThat(brandResult.getMarkers().get(0).getName()).isEqualTo("하루필름 두정점")
+        );
+    }
+
+    @Test
+    @DisplayName("넓은 화면이면 격자별 개수와 평균 좌표로 묶고, 혼자 있는 Shop 은 마커로 응답")
+    void clustersOnWideZoom() {
+        // given
+        saveShop("인생네컷 충남천안두정먹거리공원점", 127.135, 36.834);
+        saveShop("인생네컷 천안두정역점", 127.140, 36.830);
+        saveShop("하루필름 두정점", 127.150, 36.840);
+        saveShop("포토이즘박스 아산점", 127.400, 36.950); // 혼자 있는 Shop
+
+        // when
+        ResponseShopClusters result = shopClusterService.cluster(new RequestShopCluster(126.9, 36.6, 127.5, 37.0, null));
+
+        // then
+        ResponseShopCluster cluster = result.getClusters().get(0);
+        assertAll(
+                () -> assertThat(result.isClustered()).isTrue(),
+                () -> assertThat(result.getTotalCount()).isEqualTo(4),
+                () -> assertThat(result.getClusters()).hasSize(1),
+                () -> assertThat(cluster.getCount()).isEqualTo(3),
+                () -> assertThat(cluster.getLongitude()).isCloseTo(127.141666, within(0.0001)),
+                () -> assertThat(cluster.getLatitude()).isCloseTo(36.834666, within(0.0001)),
+                () -> assertThat(result.getMarkers()).hasSize(1),
+                () -> assertThat(result.getMarkers().get(0).getName()).isEqualTo("포토이즘박스 아산점")
+        );
+    }
+
+    private void saveShop(String placeName, double longitude, double latitude) {
+        Shop shop = new Shop(placeName, "충남 천안시 서북구 어딘가 1", 0);
+        shop.updateLocation(longitude, latitude, null);
+        shopRepository.save(shop);
+    }
+}
@@ -0,0 +1,54 @@
+package com.idea5.four_cut_photos_map.domain.shop.service;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ShopLocationBufferTest {
+
+    @Autowired
+    private ShopLocationBuffer shopLocationBuffer;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Test
+    @DisplayName("예약한 좌표는 저장하기 전까지 DB 에 쓰지 않고, 일괄 저장 시 한 번에 반영")
+    void flush() {
+        // given
+        Shop shop = shopRepository.save(new Shop("인생네컷 충남천안두정먹거리공원점", "충남 천안시 서북구 원두정2길 21", 0));
+        KakaoResponseDto place = KakaoResponseDto.builder()
+                .placeName("인생네컷 충남천안두정먹거리공원점")
+                .roadAddressName("충남 천안시 서북구 원두정2길 21")
+                .phone("미등록")
+                .x("127.1352")
+                .y("36.8341")
+                .build();
+
+        // when
+        shopLocationBuffer.offer(shop.getId(), place);
+        boolean locatedBeforeFlush = shopRepository.findById(shop.getId()).get().hasLocation();
+        shopLocationBuffer.flush();
+        Shop located = shopRepository.findById(shop.getId()).get();
+
+        // then
+        assertAll(
+                () -> assertThat(locatedBeforeFlush).isFalse(),
+                () -> assertThat(located.getLongitude()).isEqualTo(127.1352),
+                () -> assertThat(located.getLatitude()).isEqualTo(36.8341),
+                () -> assertThat(located.getPhone()).isNull()
+        );
+    }
+}
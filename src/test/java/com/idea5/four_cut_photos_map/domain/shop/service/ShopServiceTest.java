@@ -2,30 +2,39 @@ package com.idea5.four_cut_photos_map.domain.shop.service;
 
 import com.idea5.four_cut_photos_map.domain.favorite.repository.FavoriteRepository;
 import com.idea5.four_cut_photos_map.domain.member.repository.MemberRepository;
+import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoKeywordResponseDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.ShopDto;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestBrandSearch;
 import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShop;
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShopMarkerDelta;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShop;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopBrand;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopDetail;
 import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopMarker;
+import com.idea5.four_cut_photos_map.domain.shop.dto.response.ResponseShopMarkerDelta;
 import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.entity.ShopBrand;
 import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
 import com.idea5.four_cut_photos_map.global.common.data.Brand;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import javax.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 @SpringBootTest
 @Slf4j
@@ -48,6 +57,12 @@ class ShopServiceTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
     @DisplayName("상점 상세보기")
     @Test
     void getShopDetail() {
@@ -81,6 +96,74 @@ class ShopServiceTest {
         // then
     }
 
+    @DisplayName("키워드 검색 결과와 DB Shop 비교 시, 검색 결과 수와 상관없이 쿼리 2번 실행(Shop IN 쿼리, 칭호 IN 쿼리)")
+    @Test
+    void findShopsWithConstantQueries() {
+        // given
+        shopRepository.save(new Shop("인생네컷 홍대동교점", "서울 마포구 홍익로6길 21", 0));
+        shopRepository.save(new Shop("포토이즘박스 성수점", "서울 성동구 서울숲2길 17-2", 0));
+        // 같은 도로명주소 -> 장소명으로 2차 필터링
+        shopRepository.save(new Shop("하루필름 성수점", "서울 성동구 서울숲2길 17-2", 0));
+
+        List<KakaoKeywordResponseDto> fewApiShops = new ArrayList<>();
+        fewApiShops.add(new KakaoKeywordResponseDto("인생네컷 홍대동교점", "서울 마포구 홍익로6길 21", "126.922894949096", "37.555493447252", "18.1km"));
+
+        List<KakaoKeywordResponseDto> manyApiShops = new ArrayList<>(fewApiShops);
+        manyApiShops.add(new KakaoKeywordResponseDto("포토이즘박스 성수점", "서울 성동구 서울숲2길 17-2", "127.04073790685483", "37.547177362006806", "27.2km"));
+        for (int i = 0; i < 13; i++) {
+            manyApiShops.add(new KakaoKeywordResponseDto("없는 상점 " + i, "서울 없는길 " + i, "127.0", "37.5", "1km"));
+        }
+
+        em.flush();
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        statistics.clear();
+        shopService.findShops(fewApiShops);
+        long fewQueryCount = statistics.getPrepareStatementCount();
+
+        em.clear();
+        statistics.clear();
+        List<ResponseShop> shops = shopService.findShops(manyApiShops);
+        long manyQueryCount = statistics.getPrepareStatementCount();
+
+        // then
+        assertAll(
+                () -> assertThat(fewQueryCount).isEqualTo(2L),
+                () -> assertThat(manyQueryCount).isEqualTo(fewQueryCount),
+                () -> assertThat(shops.size()).isEqualTo(2),
+                () -> assertThat(shops.get(0).getPlaceName()).isEqualTo("인생네컷 홍대동교점"),
+                () -> assertThat(shops.get(1).getPlaceName()).isEqualTo("포토이즘박스 성수점")
+        );
+    }
+
+    @DisplayName("상점명으로 브랜드를 저장하고, 브랜드명으로 조회 시 저장된 브랜드로 조회")
+    @Test
+    void findByPersistedBrand() {
+        // given
+        Shop hongdae = shopRepository.save(new Shop("인생네컷 홍대동교점", "서울 마포구 홍익로6길 21", 0));
+        Shop seongsu = shopRepository.save(new Shop("하루필름 성수점", "서울 성동구 서울숲2길 17-2", 0));
+        shopRepository.save(new Shop("포토이즘 홍대점", "서울 마포구 어울마당로 1", 0)); // 포토이즘박스 아님
+        em.flush();
+
+        // 상점명이 바뀌면 브랜드도 갱신
+        seongsu.setPlaceName("인생네컷 성수점");
+        em.flush();
+        em.clear();
+
+        // when
+        List<ShopDto> shopDtos = shopService.findByBrand("인생네컷");
+        Shop other = shopRepository.findDistinctByRoadAddressName("서울 마포구 어울마당로 1").get(0);
+
+        // then
+        assertAll(
+                () -> assertThat(shopRepository.findById(hongdae.getId()).get().getBrand()).isEqualTo(ShopBrand.LIFE_FOUR_CUT),
+                () -> assertThat(shopDtos.size()).isEqualTo(2),
+                () -> assertThat(other.getBrand()).isNull()
+        );
+    }
+
     @DisplayName("Brand 명으로 검색 시, 카카오 맵 api와 DB에 저장되어 있는 도로명주소 비교")
     @Test
     void findShopByBrandName() {
@@ -175,4 +258,33 @@ class ShopServiceTest {
         );
     }
 
-}
\ No newline at end of file
+    @DisplayName("지도를 움직이면 knownIds 나 이전 중심 좌표와 비교해서 추가/삭제된 마커만 응답")
+    @Test
+    void showMarkerDelta() {
+        // given
+        Shop both = saveLocatedShop("인생네컷 천안두정역점", 127.1517, 36.8339); // 이전, 현재 반경 모두 포함
+        Shop before = saveLocatedShop("하루필름 두정점", 127.1300, 36.8339); // 이전 반경에만 포함
+        Shop after = saveLocatedShop("인생네컷 천안안서점", 127.1750, 36.8339); // 현재 반경에만 포함
+
+        // when
+        ResponseShopMarkerDelta byKnownIds = shopService.searchMarkerDeltasByBrands(
+                new RequestShopMarkerDelta(127.1685, 36.8339, null, null, List.of(both.getId(), before.getId())));
+        ResponseShopMarkerDelta byPrevLocation = shopService.searchMarkerDeltasByBrands(
+                new RequestShopMarkerDelta(127.1685, 36.8339, 127.1349, 36.8339, null));
+
+        // then
+        assertAll(
+                () -> assertThat(byKnownIds.getAdded().get("인생네컷")).extracting(ResponseShopMarker::getId).containsExactly(after.getId()),
+                () -> assertThat(byKnownIds.getAdded().get("하루필름")).isEmpty(),
+                () -> assertThat(byKnownIds.getRemoved()).containsExactly(before.getId()),
+                () -> assertThat(byPrevLocation.getAdded().get("인생네컷")).extracting(ResponseShopMarker::getId).containsExactly(after.getId()),
+                () -> assertThat(byPrevLocation.getRemoved()).containsExactly(before.getId())
+        );
+    }
+
+    private Shop saveLocatedShop(String placeName, double longitude, double latitude) {
+        Shop shop = new Shop(placeName, "충남 천안시 서북구 어딘가 1", 0);
+        shop.updateLocation(longitude, latitude, null);
+        return shopRepository.save(shop);
+    }
+}
@@ -0,0 +1,91 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SharedIndexTest {
+
+    @Test
+    @DisplayName("적재 전에 동시에 들어온 조회는 적재 하나를 함께 기다림")
+    void shareOneLoad() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SharedIndex<List<String>> index = new SharedIndex<>(() -> {
+            loadCount.incrementAndGet();
+            loadStarted.countDown();
+            await(release);
+            return new ArrayList<>(List.of("인생네컷"));
+        });
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+
+        // when
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            futures.add(executor.submit(() -> index.read(List::size)));
+        }
+        loadStarted.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100); // 나머지 조회가 적재를 기다리도록
+        release.countDown();
+
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> future : futures) results.add(future.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(results).containsOnly(1)
+        );
+    }
+
+    @Test
+    @DisplayName("적재 중에 반영된 변경은 적재 결과를 버리지 않고 새 인덱스에 반영")
+    void applyChangesDuringLoad() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SharedIndex<List<String>> index = new SharedIndex<>(() -> {
+            loadCount.incrementAndGet();
+            loadStarted.countDown();
+            await(release);
+            return new ArrayList<>(List.of("인생네컷"));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<List<String>> loading = executor.submit(() -> index.read(ArrayList::new));
+        loadStarted.await(5, TimeUnit.SECONDS);
+        index.apply(current -> current.add("하루필름"));
+        release.countDown();
+        loading.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        List<String> afterLoad = index.read(ArrayList::new);
+
+        // then
+        assertAll(
+                () -> assertThat(afterLoad).containsExactly("인생네컷", "하루필름"),
+                () -> assertThat(loadCount.get()).isEqualTo(1)
+        );
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.ShopDto;
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.global.util.DatabaseCleaner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ShopAddressIndexTest {
+
+    @Autowired
+    private ShopAddressIndex shopAddressIndex;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("브랜드, 정규화된 도로명주소로 Shop 조회")
+    void find() {
+        // given
+        Shop shop = shopRepository.save(new Shop("인생네컷 충남천안두정먹거리공원점", "충남 천안시 서북구 원두정2길 21", 0));
+        shopRepository.save(new Shop("하루필름 홍대점", "서울 마포구 어울마당로 65", 0));
+
+        // when
+        ShopDto found = shopAddressIndex.find("인생네컷", "  충남 천안시  서북구 원두정2길 21 ");
+        ShopDto otherBrand = shopAddressIndex.find("인생네컷", "서울 마포구 어울마당로 65");
+
+        // then
+        assertAll(
+                () -> assertThat(found).isNotNull(),
+                () -> assertThat(found.getId()).isEqualTo(shop.getId()),
+                () -> assertThat(otherBrand).isNull(),
+                () -> assertThat(shopAddressIndex.containsBrand("하루필름")).isTrue(),
+                () -> assertThat(shopAddressIndex.containsBrand("픽닷")).isFalse()
+        );
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("인덱스 적재 후 커밋된 추가는 DB 조회 없이 반영하고, 주소 변경은 브랜드를 다시 적재해서 반영")
+    void incrementalUpdate() {
+        try {
+            // given (트랜잭션 밖에서 조회 -> 공유 인덱스에 적재)
+            Shop shop = shopRepository.save(new Shop("인생네컷 천안안서점", "충남 천안시 동남구 상명대길 58", 0));
+            assertThat(shopAddressIndex.find("인생네컷", "충남 천안시 동남구 상명대길 58")).isNotNull();
+            Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+            // when
+            Shop added = shopRepository.save(new Shop("인생네컷 천안불당로드점", "충남 천안시 서북구 불당33길 26", 0));
+            statistics.clear();
+            ShopDto addedFound = shopAddressIndex.find("인생네컷", "충남 천안시 서북구 불당33길 26");
+            long addQueryCount = statistics.getPrepareStatementCount();
+
+            transactionTemplate.executeWithoutResult(status ->
+                    shopRepository.findById(shop.getId()).orElseThrow().setRoadAddressName("충남 천안시 동남구 상명대길 60"));
+
+            // then
+            assertAll(
+                    () -> assertThat(addedFound.getId()).isEqualTo(added.getId()),
+                    () -> assertThat(addQueryCount).isZero(),
+                    () -> assertThat(shopAddressIndex.find("인생네컷", "충남 천안시 동남구 상명대길 58")).isNull(),
+                    () -> assertThat(shopAddressIndex.find("인생네컷", "충남 천안시 동남구 상명대길 60").getId()).isEqualTo(shop.getId())
+            );
+        } finally {
+            databaseCleaner.execute();
+            shopAddressIndex.refresh();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("공유 인덱스에는 커밋된 Shop 만 반영하고, 롤백된 Shop 은 반영하지 않음")
+    void applyOnlyCommitted() {
+        try {
+            // given (트랜잭션 밖에서 조회 -> 공유 인덱스에 적재)
+            shopRepository.save(new Shop("인생네컷 천안안서점", "충남 천안시 동남구 상명대길 58", 0));
+            assertThat(shopAddressIndex.find("인생네컷", "충남 천안시 동남구 상명대길 58")).isNotNull();
+
+            // when
+            Shop committed = shopRepository.save(new Shop("인생네컷 천안불당로드점", "충남 천안시 서북구 불당33길 26", 0));
+            transactionTemplate.executeWithoutResult(status -> {
+                shopRepository.saveAndFlush(new Shop("인생네컷 천안두정역점", "충남 천안시 서북구 두정역길 1", 0));
+                status.setRollbackOnly();
+            });
+
+            // then
+            assertAll(
+                    () -> assertThat(shopAddressIndex.find("인생네컷", "충남 천안시 서북구 불당33길 26").getId()).isEqualTo(committed.getId()),
+                    () -> assertThat(shopAddressIndex.find("인생네컷", "충남 천안시 서북구 두정역길 1")).isNull()
+            );
+        } finally {
+            databaseCleaner.execute();
+            shopAddressIndex.refresh();
+        }
+    }
+}
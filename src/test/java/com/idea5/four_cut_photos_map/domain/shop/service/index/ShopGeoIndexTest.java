@@ -0,0 +1,105 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.domain.shop.service.index.ShopGeoIndex.NearbyShop;
+import com.idea5.four_cut_photos_map.global.util.DatabaseCleaner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ShopGeoIndexTest {
+    private final double X = 127.134898;
+    private final double Y = 36.833922;
+
+    @Autowired
+    private ShopGeoIndex shopGeoIndex;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("반경 2km 이내 브랜드 Shop 을 가까운 순으로 조회")
+    void findNearby() {
+        // given
+        Shop near = saveShop("인생네컷 충남천안두정먹거리공원점", "충남 천안시 서북구 원두정2길 21", 127.1352, 36.8341);
+        Shop middle = saveShop("인생네컷 천안두정역점", "충남 천안시 서북구 두정역길 1", 127.1400, 36.8300);
+        saveShop("인생네컷 천안안서점", "충남 천안시 동남구 상명대길 58", 127.1620, 36.8330); // 약 2.4km
+        saveShop("하루필름 두정점", "충남 천안시 서북구 원두정2길 23", 127.1350, 36.8340); // 다른 브랜드
+        shopRepository.save(new Shop("인생네컷 좌표없음점", "충남 천안시 서북구 어딘가 1", 0));
+
+        // when
+        List<NearbyShop> nearbyShops = shopGeoIndex.findNearby("인생네컷", X, Y, 2000);
+
+        // then
+        assertAll(
+                () -> assertThat(nearbyShops).hasSize(2),
+                () -> assertThat(nearbyShops.get(0).getShop().getId()).isEqualTo(near.getId()),
+                () -> assertThat(nearbyShops.get(1).getShop().getId()).isEqualTo(middle.getId()),
+                () -> assertThat(nearbyShops.get(0).getDistance()).isLessThan(nearbyShops.get(1).getDistance()),
+                () -> assertThat(shopGeoIndex.locatedRatio("인생네컷")).isEqualTo(0.75)
+        );
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("좌표가 저장되면 커밋 후 공간 인덱스를 다시 적재하지 않고 바로 반영")
+    void updateLocation() {
+        try {
+            // given (트랜잭션 밖에서 조회 -> 공유 인덱스에 적재)
+            Shop shop = shopRepository.save(new Shop("포토이즘박스 두정점", "충남 천안시 서북구 원두정2길 21", 0));
+            assertThat(shopGeoIndex.findNearby("포토이즘박스", X, Y, 2000)).isEmpty();
+            Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+            // when
+            transactionTemplate.executeWithoutResult(status ->
+                    shopRepository.findById(shop.getId()).orElseThrow().updateLocation(127.1352, 36.8341, "041-000-0000"));
+            statistics.clear();
+            List<NearbyShop> nearbyShops = shopGeoIndex.findNearby("포토이즘박스", X, Y, 2000);
+            boolean hasLocation = shopGeoIndex.hasLocation(shop.getId());
+            long queryCount = statistics.getPrepareStatementCount();
+
+            // then
+            assertAll(
+                    () -> assertThat(nearbyShops).hasSize(1),
+                    () -> assertThat(nearbyShops.get(0).getShop().getPhone()).isEqualTo("041-000-0000"),
+                    () -> assertThat(hasLocation).isTrue(),
+                    () -> assertThat(queryCount).isZero()
+            );
+        } finally {
+            databaseCleaner.execute();
+            shopGeoIndex.refresh();
+        }
+    }
+
+    private Shop saveShop(String placeName, String roadAddressName, double longitude, double latitude) {
+        Shop shop = new Shop(placeName, roadAddressName, 0);
+        shop.updateLocation(longitude, latitude, null);
+        return shopRepository.save(shop);
+    }
+}
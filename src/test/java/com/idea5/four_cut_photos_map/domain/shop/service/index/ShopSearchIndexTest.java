@@ -0,0 +1,147 @@
+package com.idea5.four_cut_photos_map.domain.shop.service.index;
+
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.global.util.DatabaseCleaner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ShopSearchIndexTest {
+
+    @Autowired
+    private ShopSearchIndex shopSearchIndex;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("접두어, 단어 접두어, 포함 순으로 정렬하고 공백으로 나눈 단어는 모두 포함")
+    void searchByPlaceName() {
+        // given
+        shopRepository.save(new Shop("인생네컷 홍대동교점", "서울 마포구 홍익로6길 21", 0));
+        shopRepository.save(new Shop("하루필름 홍대점", "서울 마포구 와우산로 1", 0));
+        shopRepository.save(new Shop("포토이즘박스 서울숲점", "서울 성동구 서울숲2길 17-2", 0));
+        shopRepository.save(new Shop("인생네컷 성수점", "서울 성동구 연무장길 2", 0));
+
+        // when
+        List<String> hongdae = placeNames(shopSearchIndex.search("홍대", 10));
+        List<String> lifeFourCut = placeNames(shopSearchIndex.search("인생네컷 홍대", 10));
+        List<String> seongdong = placeNames(shopSearchIndex.search("성동구", 10));
+
+        // then
+        assertAll(
+                () -> assertThat(hongdae).containsExactly("하루필름 홍대점", "인생네컷 홍대동교점"),
+                () -> assertThat(lifeFourCut).containsExactly("인생네컷 홍대동교점"),
+                () -> assertThat(seongdong).containsExactlyInAnyOrder("포토이즘박스 서울숲점", "인생네컷 성수점")
+        );
+    }
+
+    @Test
+    @DisplayName("초성, 초성이 섞인 검색어로 검색")
+    void searchByChoseong() {
+        // given
+        shopRepository.save(new Shop("인생네컷 홍대동교점", "서울 마포구 홍익로6길 21", 0));
+        shopRepository.save(new Shop("하루필름 홍대점", "서울 마포구 와우산로 1", 0));
+
+        // when
+        List<String> choseong = placeNames(shopSearchIndex.search("ㅇㅅㄴㅋ", 10));
+        List<String> mixed = placeNames(shopSearchIndex.search("하루ㅍㄹ ㅎㄷ", 10));
+
+        // then
+        assertAll(
+                () -> assertThat(choseong).containsExactly("인생네컷 홍대동교점"),
+                () -> assertThat(mixed).containsExactly("하루필름 홍대점")
+        );
+    }
+
+    @Test
+    @DisplayName("기준 좌표가 있으면 같은 순위 안에서 가까운 순, 좌표가 없는 Shop 은 마지막")
+    void searchNearby() {
+        // given (천안 두정동 기준)
+        saveShop("인생네컷 홍대점", "서울 마포구 홍익로6길 21", 126.9236, 37.5563); // 약 82km, 상점명이 가장 짧음
+        saveShop("인생네컷 천안두정역점", "충남 천안시 서북구 두정역길 1", 127.1400, 36.8300); // 약 0.6km
+        saveShop("인생네컷 천안신부동점", "충남 천안시 동남구 신부동 1", 127.1550, 36.8190); // 약 2.4km
+        shopRepository.save(new Shop("인생네컷 좌표없음점", "충남 천안시 서북구 어딘가 1", 0));
+        saveShop("포토이즘 인생네컷 두정점", "충남 천안시 서북구 원두정2길 21", 127.1352, 36.8341); // 가장 가깝지만 단어 접두어
+
+        // when
+        List<String> nearby = placeNames(shopSearchIndex.search("인생네컷", 10, 127.134898, 36.833922));
+        List<String> byLength = placeNames(shopSearchIndex.search("인생네컷", 2));
+
+        // then
+        assertAll(
+                () -> assertThat(nearby).containsExactly("인생네컷 천안두정역점", "인생네컷 천안신부동점", "인생네컷 홍대점",
+                        "인생네컷 좌표없음점", "포토이즘 인생네컷 두정점"),
+                () -> assertThat(byLength).containsExactly("인생네컷 홍대점", "인생네컷 좌표없음점")
+        );
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("상점명이 바뀌면 커밋 후 검색 인덱스를 다시 적재하지 않고 바로 반영")
+    void updatePlaceName() {
+        try {
+            // given (트랜잭션 밖에서 조회 -> 공유 인덱스에 적재)
+            Shop shop = shopRepository.save(new Shop("인생네컷 두정점", "충남 천안시 서북구 원두정2길 21", 0));
+            assertThat(shopSearchIndex.search("두정", 10)).hasSize(1);
+            Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+            // when
+            transactionTemplate.executeWithoutResult(status ->
+                    shopRepository.findById(shop.getId()).orElseThrow().setPlaceName("인생네컷 천안점"));
+            statistics.clear();
+            List<String> byAddress = placeNames(shopSearchIndex.search("두정", 10)); // 주소에 포함
+            List<String> byNewName = placeNames(shopSearchIndex.search("천안점", 10));
+            List<ShopLocation> byOldName = shopSearchIndex.search("두정점", 10);
+            long queryCount = statistics.getPrepareStatementCount();
+
+            // then
+            assertAll(
+                    () -> assertThat(byAddress).containsExactly("인생네컷 천안점"),
+                    () -> assertThat(byNewName).containsExactly("인생네컷 천안점"),
+                    () -> assertThat(byOldName).isEmpty(),
+                    () -> assertThat(queryCount).isZero()
+            );
+        } finally {
+            databaseCleaner.execute();
+            shopSearchIndex.refresh();
+        }
+    }
+
+    private Shop saveShop(String placeName, String roadAddressName, double longitude, double latitude) {
+        Shop shop = new Shop(placeName, roadAddressName, 0);
+        shop.updateLocation(longitude, latitude, null);
+        return shopRepository.save(shop);
+    }
+
+    private List<String> placeNames(List<ShopLocation> shops) {
+        return shops.stream().map(ShopLocation::getPlaceName).collect(Collectors.toList());
+    }
+}
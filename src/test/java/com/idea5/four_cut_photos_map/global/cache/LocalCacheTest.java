@@ -0,0 +1,94 @@
+package com.idea5.four_cut_photos_map.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LocalCacheTest {
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 최근에 조회하지 않은 항목부터 제거")
+    void evictLeastRecentlyUsed() {
+        // given
+        LocalCache<Integer, String> cache = new LocalCache<>(10);
+        for (int i = 0; i < 10; i++) cache.putWithTtl(i, "value" + i, 60_000);
+        for (int i = 0; i < 5; i++) cache.get(i);
+
+        // when
+        cache.putWithTtl(10, "value10", 60_000);
+
+        // then
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(9),
+                () -> assertThat(cache.getEvictionCount()).isEqualTo(2),
+                () -> {
+                    for (int i = 0; i < 5; i++) assertThat(cache.get(i)).isEqualTo("value" + i);
+                },
+                () -> assertThat(cache.get(10)).isEqualTo("value10")
+        );
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 조회 시 제거하고 실패로 집계")
+    void expireOnGet() {
+        // given
+        LocalCache<String, String> cache = new LocalCache<>(10);
+        cache.put("expired", "value", System.currentTimeMillis() - 1);
+        cache.putWithTtl("alive", "value", 60_000);
+
+        // when
+        String expired = cache.get("expired");
+        String alive = cache.get("alive");
+
+        // then
+        assertAll(
+                () -> assertThat(expired).isNull(),
+                () -> assertThat(alive).isEqualTo("value"),
+                () -> assertThat(cache.size()).isEqualTo(1),
+                () -> assertThat(cache.getHitCount()).isEqualTo(1),
+                () -> assertThat(cache.getMissCount()).isEqualTo(1),
+                () -> assertThat(cache.getEvictionCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장해도 최대 개수 근처로 유지")
+    void boundSizeUnderConcurrentPuts() throws Exception {
+        // given
+        LocalCache<Integer, Integer> cache = new LocalCache<>(100);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 1000;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.putWithTtl(offset + i, i, 60_000);
+                    cache.get(offset + i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        // 마지막 저장이 정리 중인 다른 스레드와 겹쳤을 수 있으므로 한 번 더 저장해서 정리
+        cache.putWithTtl(-1, -1, 60_000);
+
+        // then
+        assertAll(
+                () -> assertThat(cache.size()).isLessThanOrEqualTo(100),
+                () -> assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(threads * 1000L),
+                () -> assertThat(cache.getEvictionCount()).isGreaterThan(0)
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.idea5.four_cut_photos_map.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 key 의 동시 호출은 한 번만 실행하고 결과를 공유")
+    void coalesceConcurrentCalls() throws Exception {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loadCount = new AtomicInteger();
+        CompletableFuture<String> response = new CompletableFuture<>();
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<CompletableFuture<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            calls.add(executor.submit(() -> singleFlight.executeAsync("marker:인생네컷", () -> {
+                loadCount.incrementAndGet();
+                return response;
+            })));
+        }
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (Future<CompletableFuture<String>> call : calls) futures.add(call.get(5, TimeUnit.SECONDS));
+        response.complete("result");
+
+        List<String> results = new ArrayList<>();
+        for (CompletableFuture<String> future : futures) results.add(future.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(results).containsOnly("result"),
+                () -> assertThat(singleFlight.getExecutedCount()).isEqualTo(1),
+                () -> assertThat(singleFlight.getCoalescedCount()).isEqualTo(callers - 1),
+                () -> assertThat(singleFlight.inFlightCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("실행이 끝난 key 는 다시 실행, 예외는 그대로 전달")
+    void executeAgainAfterCompletion() throws Exception {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        // when
+        singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("first")).get(5, TimeUnit.SECONDS);
+        String second = singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("second")).get(5, TimeUnit.SECONDS);
+        CompletableFuture<String> failed = singleFlight.executeAsync("key", () -> {
+            throw new IllegalStateException("api 오류");
+        });
+
+        // then
+        assertAll(
+                () -> assertThat(second).isEqualTo("second"),
+                () -> assertThat(singleFlight.getExecutedCount()).isEqualTo(3),
+                () -> assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(IllegalStateException.class),
+                () -> assertThat(singleFlight.inFlightCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("비동기 호출도 같은 key 면 future 를 공유하고, 완료 후에는 key 를 제거")
+    void coalesceAsyncCalls() throws Exception {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> response = new CompletableFuture<>();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> first = singleFlight.executeAsync("brand:인생네컷", () -> {
+            loadCount.incrementAndGet();
+            return response;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync("brand:인생네컷", () -> {
+            loadCount.incrementAndGet();
+            return response;
+        });
+        boolean doneBeforeResponse = first.isDone();
+        response.complete("result");
+
+        // then
+        assertAll(
+                () -> assertThat(doneBeforeResponse).isFalse(),
+                () -> assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result"),
+                () -> assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("result"),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(singleFlight.getCoalescedCount()).isEqualTo(1),
+                () -> assertThat(singleFlight.inFlightCount()).isZero()
+        );
+    }
+}
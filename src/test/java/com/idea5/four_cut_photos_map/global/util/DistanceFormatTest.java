@@ -8,7 +8,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @ActiveProfiles("test")
@@ -93,4 +98,27 @@ public class DistanceFormatTest {
         // then
         assertThat(test).isEqualTo("232km");
     }
+
+    @DisplayName("String.format 을 쓰던 기존 구현과 결과가 같음")
+    @Test
+    void sameAsLegacyFormat() {
+        // given
+        List<String> distances = new ArrayList<>(List.of("", "0", "999", "0999", "01000", "-1000", "+1200", "999999999"));
+        for (int meters = 1000; meters < 1_000_000; meters++) distances.add(String.valueOf(meters));
+
+        // when
+        List<String> different = distances.stream()
+                .filter(distance -> !DistanceFormatter.format(distance).equals(DistanceFormatter.formatLegacy(distance)))
+                .collect(Collectors.toList());
+        List<Long> differentMeters = LongStream.of(0, 7, 999, 1000, 1049, 1050, 99950, 99999, 999499, 999500, 123_456_789)
+                .filter(meters -> !DistanceFormatter.format(meters).equals(DistanceFormatter.formatLegacy(String.valueOf(meters))))
+                .boxed()
+                .collect(Collectors.toList());
+
+        // then
+        assertAll(
+                () -> assertThat(different).isEmpty(),
+                () -> assertThat(differentMeters).isEmpty()
+        );
+    }
 }
@@ -0,0 +1,100 @@
+package com.idea5.four_cut_photos_map.global.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.idea5.four_cut_photos_map.domain.shop.dto.KakaoResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class JsonCodecsTest {
+    // 카카오맵 API 응답 형식, DocumentManagement 에 없는 필드(id, category_name, same_name) 포함
+    private static final String KAKAO_RESPONSE = "{\"documents\":["
+            + "{\"id\":\"1\",\"place_name\":\"인생네컷 서울숲점\",\"category_name\":\"사진\",\"address_name\":\"서울 성동구 성수동1가 1\","
+            + "\"road_address_name\":\"서울 성동구 왕십리로 1\",\"x\":\"127.04\",\"y\":\"37.54\",\"distance\":\"2350\",\"phone\":\"\"},"
+            + "{\"id\":\"2\",\"place_name\":\"하루필름 성수점\",\"category_name\":\"사진\",\"address_name\":\"서울 성동구 성수동2가 2\","
+            + "\"road_address_name\":\"서울 성동구 연무장길 2\",\"x\":\"127.05\",\"y\":\"37.54\",\"distance\":\"120\",\"phone\":\"02-000-0000\"}],"
+            + "\"meta\":{\"is_end\":true,\"pageable_count\":2,\"total_count\":2,\"same_name\":null}}";
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 변환해도 결과가 같고, 공유 ObjectMapper 설정은 바뀌지 않음")
+    void concurrentParsing() throws Exception {
+        // given
+        int threads = 16;
+        int iterations = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int success = 0;
+                for (int i = 0; i < iterations; i++) {
+                    DocumentManagement page = JsonCodecs.DOCUMENT_MANAGEMENT_READER.readValue(KAKAO_RESPONSE);
+                    // 캐시에 저장한 값을 다시 읽어도 같은 값
+                    String json = JsonCodecs.DOCUMENT_MANAGEMENT_WRITER.writeValueAsString(page);
+                    DocumentManagement cached = JsonCodecs.DOCUMENT_MANAGEMENT_READER.readValue(json);
+                    List<KakaoResponseDto> dtos = Util.jackson2(KAKAO_RESPONSE, "인생네컷");
+
+                    if (page.getDocuments().length == 2
+                            && cached.getMeta().isIs_end()
+                            && cached.getDocuments()[1].getPlace_name().equals("하루필름 성수점")
+                            && dtos.size() == 2
+                            && dtos.get(0).getDistance().equals("2.4km")
+                            && dtos.get(0).getPhone().equals("미등록")) {
+                        success++;
+                    }
+                }
+                return success;
+            }));
+        }
+        start.countDown();
+
+        int success = 0;
+        for (Future<Integer> future : futures) success += future.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        int total = threads * iterations;
+        assertAll(
+                () -> assertThat(success).isEqualTo(total),
+                () -> assertThat(JsonCodecs.copyMapper().isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("복사한 ObjectMapper 는 같은 설정이고, 설정을 바꿔도 공유 변환기에는 영향 없음")
+    void copyMapper() throws Exception {
+        // given
+        ObjectMapper copy = JsonCodecs.copyMapper();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("createDate", LocalDateTime.of(2023, 1, 1, 0, 0));
+
+        // when
+        String copied = copy.writeValueAsString(map);
+        copy.enable(SerializationFeature.INDENT_OUTPUT);
+        copy.enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+        String shared = JsonCodecs.WRITER.writeValueAsString(map);
+        DocumentManagement page = JsonCodecs.DOCUMENT_MANAGEMENT_READER.readValue("{\"documents\":[],\"meta\":{\"is_end\":null}}");
+
+        // then
+        assertAll(
+                () -> assertThat(copied).isEqualTo("{\"createDate\":\"2023-01-01T00:00:00\"}"),
+                () -> assertThat(shared).isEqualTo(copied),
+                () -> assertThat(page.getMeta().isIs_end()).isFalse(), // null -> 기본값 (공유 reader 설정 유지)
+                () -> assertThat(JsonCodecs.copyMapper()).isNotSameAs(copy)
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package com.idea5.four_cut_photos_map.job;
+
+import com.idea5.four_cut_photos_map.domain.shop.dto.request.RequestShop;
+import com.idea5.four_cut_photos_map.domain.shop.entity.Shop;
+import com.idea5.four_cut_photos_map.domain.shop.repository.ShopRepository;
+import com.idea5.four_cut_photos_map.domain.shop.service.ShopService;
+import com.idea5.four_cut_photos_map.domain.shop.service.kakao.KakaoSearchCache;
+import com.idea5.four_cut_photos_map.domain.shop.service.kakao.KakaoSearchCache.CellStats;
+import com.idea5.four_cut_photos_map.global.util.DocumentManagement;
+import com.idea5.four_cut_photos_map.global.util.GeoCell;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = "shop.geo.kakao-enrichment=false") // 카카오맵 API 를 호출하지 않고 공간 인덱스로만 마커 조회
+@ActiveProfiles("test")
+@Transactional
+class MarkerPrewarmJobTest {
+    private final double X = 127.134898;
+    private final double Y = 36.833922;
+
+    @Autowired
+    private ShopService shopService;
+
+    @Autowired
+    private KakaoSearchCache kakaoSearchCache;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Test
+    @DisplayName("핫스팟 적재는 실제 마커 조회 경로를 거치고, 셀별 적중/실패 횟수에는 집계되지 않음")
+    void prewarm() {
+        // given (test profile 에서는 작업이 비활성화되어 있으므로 직접 생성)
+        saveShop("인생네컷 충남천안두정먹거리공원점", "충남 천안시 서북구 원두정2길 21", 127.1352, 36.8341);
+        saveShop("인생네컷 천안두정역점", "충남 천안시 서북구 두정역길 1", 127.1400, 36.8300);
+        saveShop("인생네컷 천안안서점", "충남 천안시 동남구 상명대길 58", 127.1620, 36.8330); // 약 2.4km
+        MarkerPrewarmJob markerPrewarmJob = new MarkerPrewarmJob(shopService, kakaoSearchCache, new SimpleMeterRegistry(), X + "," + Y);
+        CellStats stats = kakaoSearchCache.getCellStats().get(kakaoSearchCache.cellOf(X, Y).getKey());
+
+        // when
+        markerPrewarmJob.prewarm();
+        int markers = shopService.prewarmMarkers(new RequestShop(X, Y));
+
+        // then
+        assertAll(
+                () -> assertThat(markers).isEqualTo(2),
+                () -> assertThat(stats.getHitCount()).isZero(),
+                () -> assertThat(stats.getMissCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("등록한 셀만 캐시 조회 적중/실패 횟수 집계")
+    void cellStats() {
+        // given
+        GeoCell tracked = kakaoSearchCache.cellOf(126.9236, 37.5563);
+        GeoCell untracked = kakaoSearchCache.cellOf(129.0756, 35.1796);
+        CellStats stats = kakaoSearchCache.track(tracked);
+        String key = kakaoSearchCache.key("marker", "cellStats" + System.nanoTime(), tracked, 2000, 1);
+
+        // when
+        kakaoSearchCache.get(key, tracked); // 실패
+        kakaoSearchCache.put(key, new DocumentManagement(new DocumentManagement.Document[0], new DocumentManagement.Meta(true, 0, 0)));
+        kakaoSearchCache.get(key, tracked); // 적중
+        kakaoSearchCache.get(key, untracked);
+
+        // then
+        assertAll(
+                () -> assertThat(stats.getHitCount()).isEqualTo(1),
+                () -> assertThat(stats.getMissCount()).isEqualTo(1),
+                () -> assertThat(stats.getHitRatio()).isEqualTo(0.5),
+                () -> assertThat(kakaoSearchCache.getCellStats()).doesNotContainKey(untracked.getKey())
+        );
+    }
+
+    private Shop saveShop(String placeName, String roadAddressName, double longitude, double latitude) {
+        Shop shop = new Shop(placeName, roadAddressName, 0);
+        shop.updateLocation(longitude, latitude, null);
+        return shopRepository.save(shop);
+    }
+}
@@ -0,0 +1,84 @@
+package com.idea5.four_cut_photos_map.security.jwt;
+
+import com.idea5.four_cut_photos_map.security.jwt.dto.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.ACCESS_TOKEN;
+import static com.idea5.four_cut_photos_map.security.jwt.dto.TokenType.REFRESH_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class JwtProviderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, meterRegistry);
+    private final JwtProvider jwtProvider = new JwtProvider(
+            Keys.hmacShaKeyFor("four-cut-photos-map-test-secret-key-for-hs512-signature-0123456789".getBytes(StandardCharsets.UTF_8)),
+            verifiedTokenCache);
+
+    @Test
+    @DisplayName("토큰을 한 번 파싱한 결과로 id, 토큰 타입, 남은 유효기간 조회")
+    void parse() {
+        // given
+        String accessToken = jwtProvider.generateToken(7L, List.of(new SimpleGrantedAuthority("ROLE_USER")), ACCESS_TOKEN.getName(), 1800L);
+        String refreshToken = jwtProvider.generateToken(7L, List.of(new SimpleGrantedAuthority("ROLE_USER")), REFRESH_TOKEN.getName(), 1800L);
+
+        // when
+        JwtClaims accessClaims = jwtProvider.parse(accessToken);
+        JwtClaims refreshClaims = jwtProvider.parse(refreshToken);
+
+        // then
+        assertAll(
+                () -> assertThat(accessClaims.getId()).isEqualTo(7L),
+                () -> assertThat(accessClaims.isAccessToken()).isTrue(),
+                () -> assertThat(accessClaims.isRefreshToken()).isFalse(),
+                () -> assertThat(accessClaims.getRemainingMillis()).isBetween(1_700_000L, 1_800_000L),
+                () -> assertThat(refreshClaims.isRefreshToken()).isTrue(),
+                () -> assertThat(jwtProvider.getId(accessToken)).isEqualTo(7L),
+                () -> assertThat(jwtProvider.getTokenType(accessToken)).isEqualTo(ACCESS_TOKEN.getName())
+        );
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 JwtException")
+    void parseInvalidSignature() {
+        // given
+        JwtProvider otherProvider = new JwtProvider(
+                Keys.hmacShaKeyFor("another-secret-key-for-hs512-signature-four-cut-photos-map-9876543210".getBytes(StandardCharsets.UTF_8)),
+                new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        String token = otherProvider.generateToken(7L, List.of(), ACCESS_TOKEN.getName(), 1800L);
+
+        // when, then
+        assertThatThrownBy(() -> jwtProvider.parse(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("검증한 토큰은 캐시에서 조회하고, 무효화하면 다시 검증")
+    void parseCached() {
+        // given
+        String token = jwtProvider.generateToken(7L, List.of(), ACCESS_TOKEN.getName(), 1800L);
+        JwtClaims first = jwtProvider.parse(token);
+
+        // when
+        JwtClaims cached = jwtProvider.parse(token);
+        jwtProvider.invalidate(token);
+        JwtClaims reparsed = jwtProvider.parse(token);
+
+        // then
+        assertAll(
+                () -> assertThat(cached).isSameAs(first),
+                () -> assertThat(reparsed).isNotSameAs(first),
+                () -> assertThat(reparsed.getId()).isEqualTo(7L),
+                () -> assertThat(meterRegistry.get("jwt.verified_cache").tag("result", "hit").functionCounter().count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("jwt.verified_cache").tag("result", "miss").functionCounter().count()).isEqualTo(2)
+        );
+    }
+}